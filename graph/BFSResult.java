@@ -0,0 +1,21 @@
+package graph;
+
+public class BFSResult {
+
+    /*********************************************************************************************************************************
+     * Space Complexity : O(V), two int arrays
+     *********************************************************************************************************************************
+     * The single-source BFS tree returned by both the direction-optimizing BFS of BFS_Iterative and ParallelBreadthFirstSearch,
+     * so a caller can swap the sequential search for the parallel one.
+     * 1. Levels: Hops from the source; every engine gives the same levels.
+     * 2. Parents: Any previous vertex on a shortest path. When several exist, the engines may pick different ones.
+     *********************************************************************************************************************************/
+
+    int[] levels; // hops from the source, -1 when unreachable
+    int[] parents; // previous vertex on a shortest path, -1 for the source and unreachable vertices
+
+    public BFSResult(int[] levels, int[] parents) {
+        this.levels = levels;
+        this.parents = parents;
+    }
+}
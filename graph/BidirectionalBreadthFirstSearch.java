@@ -0,0 +1,217 @@
+package graph;
+
+import java.util.*;
+
+public class BidirectionalBreadthFirstSearch {
+
+    /*********************************************************************************************************************************
+     * Time Complexity      : O(b^(d/2)) vertices visited on a graph with branching factor b and source-target distance d,
+     *                        O(V + E) in the worst case.
+     * Space Complexity     : O(V + E), for the forward and reverse adjacency lists and the per-vertex search state.
+     *********************************************************************************************************************************
+     * 1. Two Searches:
+     *      A forward BFS grows from the source over the adjacency lists; a backward BFS grows from the target over the reverse
+     *      adjacency lists (the same lists when the graph is undirected).
+     * 2. Expand the Smaller Frontier:
+     *      Each round expands one full level of whichever frontier holds fewer vertices, keeping both searches small.
+     * 3. Meet:
+     *      When an expanded edge reaches a vertex already labelled by the other search, a path is found. The rest of the level
+     *      is still scanned and the meeting with the smallest total length is kept, which makes the path a shortest one.
+     * 4. Build the Path:
+     *      Follow the forward parents from the meeting edge back to the source, then the backward parents on to the target.
+     *********************************************************************************************************************************/
+
+    private int vertices;
+    private boolean directed;
+    private List<Integer>[] adj;
+    private List<Integer>[] reverseAdj;
+    private int visitedCount;
+
+    @SuppressWarnings("unchecked")
+    public BidirectionalBreadthFirstSearch(int vertices, boolean directed) {
+        this.vertices = vertices;
+        this.directed = directed;
+        this.adj = new ArrayList[vertices];
+
+        // Initialize adjacency list for each vertex
+        for (int i = 0; i < vertices; i++) {
+            this.adj[i] = new ArrayList<>();
+        }
+
+        // An undirected graph is its own reverse
+        if (directed) {
+            this.reverseAdj = new ArrayList[vertices];
+            for (int i = 0; i < vertices; i++) {
+                this.reverseAdj[i] = new ArrayList<>();
+            }
+        } else {
+            this.reverseAdj = this.adj;
+        }
+    }
+
+    public void addEdge(int source, int destination) {
+        if (source >= this.vertices) {
+            throw new IllegalArgumentException("Source index is out of bounds.");
+        }
+        if (destination >= this.vertices) {
+            throw new IllegalArgumentException("Destination index is out of bounds.");
+        }
+
+        // Add the destination to the adjacency list of source
+        if (!this.adj[source].contains(destination)) {
+            this.adj[source].add(destination);
+
+            if (this.directed) {
+                this.reverseAdj[destination].add(source);
+            }
+        }
+
+        // If the graph is undirected, add the reverse edge as well
+        if (!this.directed && !this.adj[destination].contains(source)) {
+            this.adj[destination].add(source);
+        }
+    }
+
+    // Vertices labelled by either search during the last execute call
+    public int getVisitedCount() {
+        return this.visitedCount;
+    }
+
+    // Returns a shortest path from source to target, or an empty array if the target is unreachable.
+    public int[] execute(int source, int target) {
+        if (source >= this.vertices) {
+            throw new IllegalArgumentException("Source index is out of bounds.");
+        }
+        if (target >= this.vertices) {
+            throw new IllegalArgumentException("Target index is out of bounds.");
+        }
+
+        this.visitedCount = 1;
+        if (source == target) {
+            return new int[] { source };
+        }
+
+        // Hops from the source / to the target, -1 when not yet labelled by that search
+        int[] forwardDistance = new int[this.vertices];
+        int[] backwardDistance = new int[this.vertices];
+        int[] forwardParent = new int[this.vertices];
+        int[] backwardParent = new int[this.vertices];
+        Arrays.fill(forwardDistance, -1);
+        Arrays.fill(backwardDistance, -1);
+
+        forwardDistance[source] = 0;
+        forwardParent[source] = -1;
+        backwardDistance[target] = 0;
+        backwardParent[target] = -1;
+        this.visitedCount = 2;
+
+        int[] forwardFrontier = { source };
+        int[] backwardFrontier = { target };
+
+        while (forwardFrontier.length > 0 && backwardFrontier.length > 0) {
+            // Expand the smaller frontier; a meeting edge is returned as {from, to} in forward direction
+            int[] meeting = new int[2];
+            if (forwardFrontier.length <= backwardFrontier.length) {
+                forwardFrontier = expand(forwardFrontier, this.adj, forwardDistance, forwardParent, backwardDistance, meeting);
+            } else {
+                backwardFrontier = expand(backwardFrontier, this.reverseAdj, backwardDistance, backwardParent, forwardDistance,
+                        meeting);
+
+                // The backward search walked the edge from meeting[1] to meeting[0] in forward direction
+                int swap = meeting[0];
+                meeting[0] = meeting[1];
+                meeting[1] = swap;
+            }
+
+            if (forwardFrontier == null || backwardFrontier == null) {
+                return getPath(meeting[0], meeting[1], forwardParent, backwardParent);
+            }
+        }
+
+        return new int[0];
+    }
+
+    // Expands one level. Returns the next frontier, or null when the other search was met; the best meeting edge
+    // (expanded vertex, vertex labelled by the other search) is then stored in meeting.
+    private int[] expand(int[] frontier, List<Integer>[] edges, int[] distance, int[] parent, int[] otherDistance, int[] meeting) {
+        int[] next = new int[16];
+        int size = 0;
+        int bestLength = Integer.MAX_VALUE;
+
+        for (int current : frontier) {
+            for (int adjNode : edges[current]) {
+                if (otherDistance[adjNode] != -1) {
+                    // Keep scanning the level: another meeting may close a shorter path
+                    int length = distance[current] + 1 + otherDistance[adjNode];
+                    if (length < bestLength) {
+                        bestLength = length;
+                        meeting[0] = current;
+                        meeting[1] = adjNode;
+                    }
+                } else if (distance[adjNode] == -1) {
+                    distance[adjNode] = distance[current] + 1;
+                    parent[adjNode] = current;
+                    this.visitedCount++;
+
+                    if (size == next.length) {
+                        next = Arrays.copyOf(next, size * 2);
+                    }
+                    next[size++] = adjNode;
+                }
+            }
+        }
+
+        return bestLength == Integer.MAX_VALUE ? Arrays.copyOf(next, size) : null;
+    }
+
+    private int[] getPath(int from, int to, int[] forwardParent, int[] backwardParent) {
+        IntStack stack = new IntStack();
+
+        // Trace the forward half back to the source
+        for (int node = from; node != -1; node = forwardParent[node]) {
+            stack.push(node);
+        }
+
+        int forwardLength = stack.size();
+        int backwardLength = 0;
+        for (int node = to; node != -1; node = backwardParent[node]) {
+            backwardLength++;
+        }
+
+        int[] path = new int[forwardLength + backwardLength];
+        int index = 0;
+        while (!stack.isEmpty()) {
+            path[index++] = stack.pop();
+        }
+
+        // Then follow the backward half on to the target
+        for (int node = to; node != -1; node = backwardParent[node]) {
+            path[index++] = node;
+        }
+
+        return path;
+    }
+
+    public static void main(String[] args) {
+        BidirectionalBreadthFirstSearch graph = new BidirectionalBreadthFirstSearch(8, true);
+        graph.addEdge(0, 1);
+        graph.addEdge(0, 2);
+        graph.addEdge(1, 3);
+        graph.addEdge(2, 4);
+        graph.addEdge(3, 5);
+        graph.addEdge(4, 5);
+        graph.addEdge(5, 6);
+        graph.addEdge(6, 7);
+        graph.addEdge(7, 0);
+
+        System.out.println("Path 0 -> 6: " + Arrays.toString(graph.execute(0, 6)));
+        System.out.println("Visited: " + graph.getVisitedCount());
+        System.out.println("Path 6 -> 3: " + Arrays.toString(graph.execute(6, 3)));
+        System.out.println("Path 3 -> 3: " + Arrays.toString(graph.execute(3, 3)));
+
+        // Path 0 -> 6: [0, 1, 3, 5, 6]
+        // Visited: 7
+        // Path 6 -> 3: [6, 7, 0, 1, 3]
+        // Path 3 -> 3: [3]
+    }
+}
@@ -18,8 +18,28 @@ public class BFS_Iterative {
      *      While the queue is not empty:
      *      Dequeue a node, process it (e.g., print or store it).
      *      For each unvisited neighbor, mark it visited and enqueue it.
+     * 4. Visitor / Iterator:
+     *      Report nodes to a TraversalVisitor (discover with depth, finish) or yield them lazily from a primitive iterator.
+     *********************************************************************************************************************************
+     * Direction-Optimizing BFS (single source, returns levels and parents):
+     * 1. Compact Adjacency:
+     *      Copy the adjacency lists into flat offset/target arrays, plus the reversed edges for bottom-up steps.
+     * 2. Frontier and Visited Bitsets:
+     *      Keep the current frontier, the next frontier and the visited set as long[] bitsets (one bit per vertex).
+     * 3. Top-Down Step:
+     *      For every frontier vertex, claim each unvisited out-neighbor for the next frontier.
+     * 4. Bottom-Up Step:
+     *      For every unvisited vertex, scan its in-neighbors and stop at the first one in the frontier.
+     *      Once the frontier is large, most unvisited vertices find a parent after a few checks, skipping most edges.
+     * 5. Switching:
+     *      Go bottom-up when the frontier's edges exceed the unexplored edges / ALPHA.
+     *      Go back top-down when the frontier holds fewer than vertices / BETA vertices.
      *********************************************************************************************************************************/
 
+    // Switching thresholds of the direction-optimizing BFS (Beamer et al.)
+    private static final int ALPHA = 14;
+    private static final int BETA = 24;
+
     private int vertices;
     private boolean directed;
     private List<Integer>[] adj;
@@ -49,28 +69,53 @@ public class BFS_Iterative {
     }
 
     public void execute() {
+        // Print every node as it is discovered
+        execute((vertex, depth) -> {
+            System.out.print(vertex + ", ");
+            return true;
+        });
+    }
+
+    public boolean execute(TraversalVisitor visitor) {
         boolean[] visited = new boolean[this.vertices];
 
         // Perform BFS from each unvisited node to cover all components
         for (int i = 0; i < this.vertices; i++) {
-            if (!visited[i]) {
-                // Call BFS for each unvisited node
-                execute(i, visited);
+            // Call BFS for each unvisited node, stop if the visitor asks to
+            if (!visited[i] && !execute(i, visited, visitor)) {
+                return false;
             }
         }
+
+        return true;
+    }
+
+    public boolean execute(int startNode, TraversalVisitor visitor) {
+        if (startNode >= this.vertices) {
+            throw new IllegalArgumentException("Start node index is out of bounds.");
+        }
+
+        return execute(startNode, new boolean[this.vertices], visitor);
     }
 
-    private void execute(int startNode, boolean[] visited) {
+    private boolean execute(int startNode, boolean[] visited, TraversalVisitor visitor) {
         // Queue for BFS traversal
-        Queue<Integer> queue = new LinkedList<>();
+        IntRingQueue queue = new IntRingQueue();
 
         visited[startNode] = true; // Mark the start node as visited
         queue.offer(startNode); // Add the start node to the queue
+        if (!visitor.onDiscover(startNode, 0)) {
+            return false;
+        }
+
+        // Nodes left in the current level and nodes queued for the next one
+        int depth = 0;
+        int remaining = 1;
+        int nextLevel = 0;
 
         // Loop until the queue is empty
         while (!queue.isEmpty()) {
             int current = queue.poll();
-            System.out.print(current + ", ");
 
             // Visit each adjacent node of the current node
             for (int adjNode : this.adj[current]) {
@@ -78,9 +123,169 @@ public class BFS_Iterative {
                 if (!visited[adjNode]) {
                     visited[adjNode] = true; // Mark it as visited
                     queue.offer(adjNode); // Add it to the queue
+                    nextLevel++;
+                    if (!visitor.onDiscover(adjNode, depth + 1)) {
+                        return false;
+                    }
+                }
+            }
+            visitor.onFinish(current);
+
+            if (--remaining == 0) {
+                depth++;
+                remaining = nextLevel;
+                nextLevel = 0;
+            }
+        }
+
+        return true;
+    }
+
+    // Lazily yields the same order as execute(); each call to nextInt() does only the work needed to reach the next node.
+    public PrimitiveIterator.OfInt iterator() {
+        return new PrimitiveIterator.OfInt() {
+            boolean[] visited = new boolean[vertices];
+            IntRingQueue queue = new IntRingQueue();
+            int nextStart = 0;
+
+            @Override
+            public boolean hasNext() {
+                if (!this.queue.isEmpty()) {
+                    return true;
+                }
+
+                // Move on to the next unvisited node to cover all components
+                while (this.nextStart < vertices && this.visited[this.nextStart]) {
+                    this.nextStart++;
+                }
+                if (this.nextStart == vertices) {
+                    return false;
+                }
+
+                this.visited[this.nextStart] = true;
+                this.queue.offer(this.nextStart);
+                return true;
+            }
+
+            @Override
+            public int nextInt() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+
+                int current = this.queue.poll();
+                for (int adjNode : adj[current]) {
+                    if (!this.visited[adjNode]) {
+                        this.visited[adjNode] = true;
+                        this.queue.offer(adjNode);
+                    }
+                }
+
+                return current;
+            }
+        };
+    }
+
+    public BFSResult executeDirectionOptimizing(int source) {
+        if (source >= this.vertices) {
+            throw new IllegalArgumentException("Source index is out of bounds.");
+        }
+
+        int[][] outEdges = GraphArrays.compress(this.adj);
+        int[][] inEdges = this.directed ? GraphArrays.compressReversed(this.adj) : outEdges;
+        int[] outOffsets = outEdges[0];
+        int[] outTargets = outEdges[1];
+        int[] inOffsets = inEdges[0];
+        int[] inTargets = inEdges[1];
+
+        int[] levels = new int[this.vertices];
+        int[] parents = new int[this.vertices];
+        Arrays.fill(levels, -1);
+        Arrays.fill(parents, -1);
+
+        int words = (this.vertices + 63) >>> 6;
+        long[] frontier = new long[words];
+        long[] next = new long[words];
+        long[] visited = new long[words];
+
+        levels[source] = 0;
+        frontier[source >>> 6] |= 1L << source;
+        visited[source >>> 6] |= 1L << source;
+
+        int frontierSize = 1;
+        long frontierEdges = outOffsets[source + 1] - outOffsets[source];
+        long unexploredEdges = outTargets.length - frontierEdges;
+        boolean topDown = true;
+
+        for (int level = 1; frontierSize > 0; level++) {
+            // Pick the direction for this step
+            if (topDown && frontierEdges > unexploredEdges / ALPHA) {
+                topDown = false;
+            } else if (!topDown && frontierSize < this.vertices / BETA) {
+                topDown = true;
+            }
+
+            Arrays.fill(next, 0L);
+            int nextSize = 0;
+            long nextEdges = 0;
+
+            if (topDown) {
+                // Push: every frontier vertex claims its unvisited out-neighbors
+                for (int word = 0; word < words; word++) {
+                    for (long bits = frontier[word]; bits != 0; bits &= bits - 1) {
+                        int current = (word << 6) + Long.numberOfTrailingZeros(bits);
+
+                        for (int i = outOffsets[current]; i < outOffsets[current + 1]; i++) {
+                            int adjNode = outTargets[i];
+                            if ((visited[adjNode >>> 6] & (1L << adjNode)) == 0) {
+                                visited[adjNode >>> 6] |= 1L << adjNode;
+                                next[adjNode >>> 6] |= 1L << adjNode;
+                                levels[adjNode] = level;
+                                parents[adjNode] = current;
+                                nextSize++;
+                                nextEdges += outOffsets[adjNode + 1] - outOffsets[adjNode];
+                            }
+                        }
+                    }
+                }
+            } else {
+                // Pull: every unvisited vertex looks for any in-neighbor in the frontier
+                for (int word = 0; word < words; word++) {
+                    long unvisited = ~visited[word];
+                    if (word == words - 1 && (this.vertices & 63) != 0) {
+                        unvisited &= (1L << (this.vertices & 63)) - 1; // ignore bits past the last vertex
+                    }
+
+                    for (long bits = unvisited; bits != 0; bits &= bits - 1) {
+                        int current = (word << 6) + Long.numberOfTrailingZeros(bits);
+
+                        for (int i = inOffsets[current]; i < inOffsets[current + 1]; i++) {
+                            int adjNode = inTargets[i];
+                            if ((frontier[adjNode >>> 6] & (1L << adjNode)) != 0) {
+                                next[current >>> 6] |= 1L << current;
+                                levels[current] = level;
+                                parents[current] = adjNode;
+                                nextSize++;
+                                nextEdges += outOffsets[current + 1] - outOffsets[current];
+                                break; // one parent is enough, skip the remaining edges
+                            }
+                        }
+                    }
+
+                    // Vertices claimed in this word are now visited
+                    visited[word] |= next[word];
                 }
             }
+
+            long[] swap = frontier;
+            frontier = next;
+            next = swap;
+            frontierSize = nextSize;
+            frontierEdges = nextEdges;
+            unexploredEdges -= nextEdges;
         }
+
+        return new BFSResult(levels, parents);
     }
 
     public static void main(String[] args) {
@@ -94,5 +299,26 @@ public class BFS_Iterative {
         graph.addEdge(4, 5);
         graph.execute();
         // Result: 0, 1, 2, 3, 4, 5,
+
+        // Stop as soon as node 4 is discovered
+        System.out.println();
+        graph.execute((vertex, depth) -> {
+            System.out.print(vertex + " (depth " + depth + "), ");
+            return vertex != 4;
+        });
+        // Result: 0 (depth 0), 1 (depth 1), 2 (depth 1), 3 (depth 2), 4 (depth 2),
+
+        System.out.println();
+        PrimitiveIterator.OfInt iterator = graph.iterator();
+        while (iterator.hasNext()) {
+            System.out.print(iterator.nextInt() + ", ");
+        }
+        // Result: 0, 1, 2, 3, 4, 5,
+
+        BFSResult result = graph.executeDirectionOptimizing(0);
+        System.out.println("\nLevels: " + Arrays.toString(result.levels));
+        System.out.println("Parents: " + Arrays.toString(result.parents));
+        // Levels: [0, 1, 1, 2, 2, 3]
+        // Parents: [-1, 0, 0, 1, 1, 3]
     }
 }
@@ -18,6 +18,9 @@ public class DFS_Iterative {
      *      While the stack is not empty:
      *          Pop a node, process it.
      *          For each unvisited neighbor, mark it visited and push it onto the stack.
+     * 4. Visitor / Iterator:
+     *      Report nodes to a TraversalVisitor (discover with depth, finish) or yield them lazily from a primitive iterator.
+     *      A finish marker (~node) is pushed below the neighbors, so it is popped once everything above it is done.
      *********************************************************************************************************************************/
 
     private int vertices;
@@ -50,42 +53,125 @@ public class DFS_Iterative {
     }
 
     public void execute() {
+        // Print every node as it is discovered
+        execute((vertex, depth) -> {
+            System.out.print(vertex + ", ");
+            return true;
+        });
+    }
+
+    public boolean execute(TraversalVisitor visitor) {
         boolean[] visited = new boolean[this.vertices];
 
         // Iterate through all the vertices to handle disconnected components
         for (int i = 0; i < this.vertices; i++) {
-            // If the vertex hasn't been visited yet, start a DFS traversal from it
-            if (!visited[i]) {
-                execute(i, visited);
+            // If the vertex hasn't been visited yet, start a DFS traversal from it, stop if the visitor asks to
+            if (!visited[i] && !execute(i, visited, visitor)) {
+                return false;
             }
         }
+
+        return true;
     }
 
-    private void execute(int startNode, boolean[] visited) {
-        // Stack to track the nodes for DFS traversal
-        Stack<Integer> stack = new Stack<>();
+    public boolean execute(int startNode, TraversalVisitor visitor) {
+        if (startNode >= this.vertices) {
+            throw new IllegalArgumentException("Start node index is out of bounds.");
+        }
+
+        return execute(startNode, new boolean[this.vertices], visitor);
+    }
+
+    private boolean execute(int startNode, boolean[] visited, TraversalVisitor visitor) {
+        // Stack to track the nodes for DFS traversal, with the depth of each entry alongside
+        IntStack stack = new IntStack();
+        IntStack depths = new IntStack();
 
         // Push the start node onto the stack
         stack.push(startNode);
+        depths.push(0);
 
         // Continue until the stack is empty
         while (!stack.isEmpty()) {
             // Pop a node from the stack
             int current = stack.pop();
+            int depth = depths.pop();
+
+            // A finish marker: everything pushed above it has been handled
+            if (current < 0) {
+                visitor.onFinish(~current);
+                continue;
+            }
 
             // If the node has not been visited yet, process it
             if (!visited[current]) {
                 visited[current] = true;
-                System.out.print(current + ", ");
+                if (!visitor.onDiscover(current, depth)) {
+                    return false;
+                }
+
+                stack.push(~current);
+                depths.push(depth);
 
                 // Push all unvisited neighbors of the current node onto the stack
                 for (int adjNode : this.adj[current]) {
                     if (!visited[adjNode]) {
                         stack.push(adjNode);
+                        depths.push(depth + 1);
                     }
                 }
             }
         }
+
+        return true;
+    }
+
+    // Lazily yields the same order as execute(); each call to nextInt() does only the work needed to reach the next node.
+    public PrimitiveIterator.OfInt iterator() {
+        return new PrimitiveIterator.OfInt() {
+            boolean[] visited = new boolean[vertices];
+            IntStack stack = new IntStack();
+            int nextStart = 0;
+
+            @Override
+            public boolean hasNext() {
+                // Drop entries that were visited after being pushed
+                while (!this.stack.isEmpty() && this.visited[this.stack.peek()]) {
+                    this.stack.pop();
+                }
+                if (!this.stack.isEmpty()) {
+                    return true;
+                }
+
+                // Move on to the next unvisited node to cover all components
+                while (this.nextStart < vertices && this.visited[this.nextStart]) {
+                    this.nextStart++;
+                }
+                if (this.nextStart == vertices) {
+                    return false;
+                }
+
+                this.stack.push(this.nextStart);
+                return true;
+            }
+
+            @Override
+            public int nextInt() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+
+                int current = this.stack.pop();
+                this.visited[current] = true;
+                for (int adjNode : adj[current]) {
+                    if (!this.visited[adjNode]) {
+                        this.stack.push(adjNode);
+                    }
+                }
+
+                return current;
+            }
+        };
     }
 
     public static void main(String[] args) {
@@ -99,5 +185,27 @@ public class DFS_Iterative {
         graph.addEdge(4, 5);
         graph.execute();
         // Result: 0, 2, 4, 5, 1, 3,
+
+        System.out.println();
+        graph.execute(new TraversalVisitor() {
+            @Override
+            public boolean onDiscover(int vertex, int depth) {
+                System.out.print("+" + vertex + " ");
+                return true;
+            }
+
+            @Override
+            public void onFinish(int vertex) {
+                System.out.print("-" + vertex + " ");
+            }
+        });
+        // Result: +0 +2 +4 +5 -5 -4 -2 +1 +3 -3 -1 -0
+
+        System.out.println();
+        PrimitiveIterator.OfInt iterator = graph.iterator();
+        while (iterator.hasNext()) {
+            System.out.print(iterator.nextInt() + ", ");
+        }
+        // Result: 0, 2, 4, 5, 1, 3,
     }
 }
@@ -14,6 +14,9 @@ public class DFS_Recursive {
      *      Recursively call DFS on each unvisited neighbor.
      * 2. Call Helper:
      *      For each unvisited node, call the helper function to handle disconnected components.
+     * 3. Visitor / Iterator:
+     *      Report nodes to a TraversalVisitor (discover with depth, finish after all neighbors return) or yield them lazily
+     *      from a primitive iterator, which replaces the call stack with an explicit stack of (node, next neighbor index).
      *********************************************************************************************************************************/
 
     private int vertices;
@@ -46,32 +49,120 @@ public class DFS_Recursive {
     }
 
     public void execute() {
+        // Print every node as it is discovered
+        execute((vertex, depth) -> {
+            System.out.print(vertex + ", ");
+            return true;
+        });
+    }
+
+    public boolean execute(TraversalVisitor visitor) {
         // To track visited nodes
         boolean[] visited = new boolean[this.vertices];
 
         // Iterate through all the vertices to handle disconnected components
         for (int i = 0; i < this.vertices; i++) {
-            // If the vertex hasn't been visited yet, start a DFS traversal from it
-            if (!visited[i]) {
-                execute(i, visited);
+            // If the vertex hasn't been visited yet, start a DFS traversal from it, stop if the visitor asks to
+            if (!visited[i] && !execute(i, 0, visited, visitor)) {
+                return false;
             }
         }
+
+        return true;
+    }
+
+    public boolean execute(int startNode, TraversalVisitor visitor) {
+        if (startNode >= this.vertices) {
+            throw new IllegalArgumentException("Start node index is out of bounds.");
+        }
+
+        return execute(startNode, 0, new boolean[this.vertices], visitor);
     }
 
-    private void execute(int node, boolean[] visited) {
+    // Returns false once the visitor has asked to stop, so every caller up the stack unwinds without further work
+    private boolean execute(int node, int depth, boolean[] visited, TraversalVisitor visitor) {
         // If the node is not visited, process it
         if (!visited[node]) {
             visited[node] = true;
-            System.out.print(node + ", ");
+            if (!visitor.onDiscover(node, depth)) {
+                return false;
+            }
 
             // Recursively call DFS on all unvisited neighbors of the current node
             for (int adjNode : this.adj[node]) {
                 if (!visited[adjNode]) {
                     // Recurse for each unvisited neighbor
-                    execute(adjNode, visited);
+                    if (!execute(adjNode, depth + 1, visited, visitor)) {
+                        return false;
+                    }
                 }
             }
+
+            visitor.onFinish(node);
         }
+
+        return true;
+    }
+
+    // Lazily yields the same order as execute(); each call to nextInt() does only the work needed to reach the next node.
+    public PrimitiveIterator.OfInt iterator() {
+        return new PrimitiveIterator.OfInt() {
+            boolean[] visited = new boolean[vertices];
+            int[] nodes = new int[vertices]; // explicit call stack: node and the index of its next neighbor to try
+            int[] nextIndex = new int[vertices];
+            int size = 0;
+            int nextStart = 0;
+            int pending = -1; // node found by hasNext() but not yet returned
+
+            @Override
+            public boolean hasNext() {
+                if (this.pending != -1) {
+                    return true;
+                }
+
+                // Resume the deepest node that still has an unvisited neighbor
+                while (this.size > 0) {
+                    int top = this.size - 1;
+                    List<Integer> neighbors = adj[this.nodes[top]];
+
+                    while (this.nextIndex[top] < neighbors.size()) {
+                        int adjNode = neighbors.get(this.nextIndex[top]++);
+                        if (!this.visited[adjNode]) {
+                            this.pending = adjNode;
+                            return true;
+                        }
+                    }
+                    this.size--;
+                }
+
+                // Move on to the next unvisited node to cover all components
+                while (this.nextStart < vertices && this.visited[this.nextStart]) {
+                    this.nextStart++;
+                }
+                if (this.nextStart == vertices) {
+                    return false;
+                }
+
+                this.pending = this.nextStart;
+                return true;
+            }
+
+            @Override
+            public int nextInt() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+
+                int current = this.pending;
+                this.pending = -1;
+                this.visited[current] = true;
+                this.nodes[this.size] = current;
+                this.nextIndex[this.size] = 0;
+                this.size++;
+
+                return current;
+            }
+        };
     }
 
     public static void main(String[] args) {
@@ -85,5 +176,20 @@ public class DFS_Recursive {
         graph.addEdge(4, 5);
         graph.execute();
         // Result: 0, 1, 3, 5, 4, 2
+
+        // Stop as soon as node 4 is discovered
+        System.out.println();
+        graph.execute((vertex, depth) -> {
+            System.out.print(vertex + " (depth " + depth + "), ");
+            return vertex != 4;
+        });
+        // Result: 0 (depth 0), 1 (depth 1), 3 (depth 2), 5 (depth 3), 4 (depth 2),
+
+        System.out.println();
+        PrimitiveIterator.OfInt iterator = graph.iterator();
+        while (iterator.hasNext()) {
+            System.out.print(iterator.nextInt() + ", ");
+        }
+        // Result: 0, 1, 3, 5, 4, 2,
     }
 }
@@ -0,0 +1,101 @@
+package graph;
+
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+public class DisjointSetConcurrent {
+
+    /*********************************************************************************************************************************
+     * Time Complexity      : O(α(n)) amortized per operation in practice, lock-free (no thread ever waits on another).
+     * Space Complexity     : O(n) for the parent array.
+     *********************************************************************************************************************************
+     * 1. Initialize:
+     *      parent[i] = i (each node is its own parent).
+     * 2. Find with Path Halving:
+     *      Walk towards the root, swinging each visited node to its grandparent with a compare-and-set.
+     *      A failed compare-and-set only means another thread already shortened the path, so it is not retried.
+     * 3. Union by Index:
+     *      Find both roots and link the root with the larger index under the smaller one with a compare-and-set
+     *      (parent[high] : high -> low). If another thread linked that root first, find the roots again and retry.
+     *      Links always point to a smaller index, so no cycle can form and the root of a set is its smallest element.
+     * 4. Check Connectivity:
+     *      find(x) == find(y) checks if x and y are connected once no union is running.
+     *********************************************************************************************************************************/
+
+    private AtomicIntegerArray parent;
+
+    public DisjointSetConcurrent(int vertices) {
+        this.parent = new AtomicIntegerArray(vertices);
+
+        // Initially, each element is its own parent
+        for (int i = 0; i < vertices; i++) {
+            this.parent.set(i, i);
+        }
+    }
+
+    public int find(int x) {
+        while (true) {
+            int parent = this.parent.get(x);
+            if (parent == x) {
+                return x;
+            }
+
+            // Path halving: point x at its grandparent and continue from there
+            int grandparent = this.parent.get(parent);
+            if (parent != grandparent) {
+                this.parent.compareAndSet(x, parent, grandparent);
+            }
+            x = grandparent;
+        }
+    }
+
+    // Returns true if the call merged two different sets
+    public boolean union(int x, int y) {
+        while (true) {
+            int xRoot = find(x);
+            int yRoot = find(y);
+
+            // If both elements have the same root, they are already in the same set
+            if (xRoot == yRoot) {
+                return false;
+            }
+
+            int high = Math.max(xRoot, yRoot);
+            int low = Math.min(xRoot, yRoot);
+
+            // Succeeds only if high is still a root; otherwise another thread got there first
+            if (this.parent.compareAndSet(high, high, low)) {
+                return true;
+            }
+        }
+    }
+
+    public boolean isConnected(int x, int y) {
+        return find(x) == find(y);
+    }
+
+    // Points x directly at its root so later reads of the parent array see a flat tree
+    public int compress(int x) {
+        int root = find(x);
+
+        // A non-root stays a non-root, and its root is always an ancestor, so a plain write is safe
+        if (root != x) {
+            this.parent.set(x, root);
+        }
+        return root;
+    }
+
+    public static void main(String[] args) {
+        DisjointSetConcurrent disjointSet = new DisjointSetConcurrent(6);
+
+        disjointSet.union(0, 1);
+        disjointSet.union(1, 2);
+        disjointSet.union(3, 4);
+
+        System.out.println(disjointSet.isConnected(0, 2)); // Output: true
+        System.out.println(disjointSet.isConnected(0, 3)); // Output: false
+
+        disjointSet.union(2, 3);
+        System.out.println(disjointSet.isConnected(0, 3)); // Output: true
+        System.out.println(disjointSet.find(4)); // Output: 0
+    }
+}
@@ -0,0 +1,126 @@
+package graph;
+
+import java.util.*;
+
+public class DynamicTopologicalSort {
+
+    /*********************************************************************************************************************************
+     * Add Edge         - Time Complexity: O(1) when the edge agrees with the current order, otherwise O(K log K) where K is the
+     *                    number of vertices (and their edges) in the affected region between the two endpoints.
+     * Space Complexity : O(V + E), for the forward and reverse adjacency lists and the order.
+     *********************************************************************************************************************************
+     * Keeps a topological order of a DAG while edges are added, rejecting any edge that would close a cycle. The positions
+     * are maintained by PearceKellyOrder.
+     * 1. An edge that agrees with the current order is stored as is.
+     * 2. Otherwise the forward search from the destination runs first. If it reaches the source, a path
+     *    destination -> ... -> source already exists: the edge is rejected, nothing is stored and the path is kept for
+     *    getRejectedCycle. Only an accepted edge pays for the backward search and the reorder.
+     *********************************************************************************************************************************/
+
+    private int vertices;
+    private List<Integer>[] adj;
+    private List<Integer>[] reverseAdj;
+    private PearceKellyOrder order;
+    private int[] rejectedCycle = new int[0];
+
+    @SuppressWarnings("unchecked")
+    public DynamicTopologicalSort(int vertices) {
+        this.vertices = vertices;
+        this.adj = new ArrayList[vertices];
+        this.reverseAdj = new ArrayList[vertices];
+        this.order = new PearceKellyOrder(vertices);
+
+        for (int i = 0; i < vertices; i++) {
+            this.adj[i] = new ArrayList<>();
+            this.reverseAdj[i] = new ArrayList<>();
+        }
+    }
+
+    // Adds the edge and returns true, or returns false and leaves the graph unchanged if the edge would close a cycle
+    public boolean addEdge(int source, int destination) {
+        if (source >= this.vertices) {
+            throw new IllegalArgumentException("Source index is out of bounds.");
+        }
+        if (destination >= this.vertices) {
+            throw new IllegalArgumentException("Destination index is out of bounds.");
+        }
+
+        if (source == destination) {
+            this.rejectedCycle = new int[] { source };
+            return false;
+        }
+
+        // Step 1: The order already agrees with the edge
+        if (this.order.getPosition(source) < this.order.getPosition(destination)) {
+            store(source, destination);
+            return true;
+        }
+
+        // Step 2: Search forward inside the region; reaching the source means a cycle
+        int lower = this.order.getPosition(destination);
+        int upper = this.order.getPosition(source);
+        PearceKellyOrder.Neighbors neighbors = (node, isForward, visit) -> {
+            for (int adjNode : isForward ? this.adj[node] : this.reverseAdj[node]) {
+                visit.accept(adjNode);
+            }
+        };
+        this.order.newSearch();
+
+        IntStack forward = this.order.searchForward(destination, upper, neighbors);
+        if (this.order.isForwardMarked(source)) {
+            this.rejectedCycle = this.order.getForwardPath(source);
+            return false;
+        }
+
+        // Shift the backward set below the forward set
+        IntStack backward = this.order.searchBackward(source, lower, neighbors);
+        this.order.reorder(backward.toArray(), -1, forward.toArray());
+
+        store(source, destination);
+        return true;
+    }
+
+    // The existing path destination -> ... -> source that made the last rejected edge close a cycle
+    public int[] getRejectedCycle() {
+        return this.rejectedCycle;
+    }
+
+    // True if the order places the first vertex before the second; always true for the endpoints of a path
+    public boolean precedes(int first, int second) {
+        return this.order.getPosition(first) < this.order.getPosition(second);
+    }
+
+    public int[] getOrder() {
+        // Vertices never merge, so no position is ever empty
+        int[] order = new int[this.vertices];
+        for (int i = 0; i < this.vertices; i++) {
+            order[i] = this.order.getNode(i);
+        }
+        return order;
+    }
+
+    private void store(int source, int destination) {
+        // A parallel edge is only walked twice by the searches, which stop at marked vertices
+        this.adj[source].add(destination);
+        this.reverseAdj[destination].add(source);
+    }
+
+    public static void main(String[] args) {
+        DynamicTopologicalSort graph = new DynamicTopologicalSort(6);
+        graph.addEdge(5, 2);
+        graph.addEdge(5, 0);
+        graph.addEdge(4, 0);
+        graph.addEdge(4, 1);
+        graph.addEdge(2, 3);
+        graph.addEdge(3, 1);
+        System.out.println("Order: " + Arrays.toString(graph.getOrder()));
+
+        // 1 -> 5 would close 5 -> 2 -> 3 -> 1 -> 5
+        System.out.println("Added 1 -> 5: " + graph.addEdge(1, 5));
+        System.out.println("Cycle: " + Arrays.toString(graph.getRejectedCycle()));
+
+        // Order: [5, 4, 2, 3, 0, 1]
+        // Added 1 -> 5: false
+        // Cycle: [5, 2, 3, 1]
+    }
+}
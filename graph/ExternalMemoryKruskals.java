@@ -0,0 +1,401 @@
+package graph;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.*;
+
+public class ExternalMemoryKruskals {
+
+    /*********************************************************************************************************************************
+     * Time Complexity  : O(E * log E) comparisons, with every edge read and written once per pass; there is one run pass and
+     *                    log_F(E / R) merge passes, where F is the merge fan-in (one merge pass up to F runs)
+     * Space Complexity : O(V + R + F * B) resident, where R is the run size and B the read buffer per run; the edges
+     *                    themselves stay on disk
+     *********************************************************************************************************************************
+     * File Layout (big-endian):
+     *      Header  : magic "EDGE", version, vertices, edge count (long), padded to 32 bytes.
+     *      Edges   : one 12-byte record (source, destination, weight) per undirected edge.
+     * 1. Sorted Runs:
+     *      Memory-map the edge file one window of R edges at a time, sort the window by weight in memory and spill it to a
+     *      temporary run file. Self-loops can never be in a spanning tree and are dropped here; a vertex id outside 0 .. V - 1
+     *      means the file does not match its header and fails the run.
+     * 2. K-Way Merge:
+     *      Read every run through a small buffer and keep the runs in a priority queue ordered by their current edge, so the
+     *      edges come out in global weight order without ever being in memory together. Every open run holds a file
+     *      handle, so at most F runs are merged at once: while there are more, groups of F runs are merged into longer
+     *      intermediate runs first.
+     * 3. Kruskal's Algorithm:
+     *      Stream the merged edges through DisjointSetByRank (two int arrays of size V) and keep an edge if it joins two
+     *      components. Stop as soon as V - 1 edges are accepted; the rest of the runs is never read.
+     * 4. Clean Up:
+     *      Delete the run files, also when the computation fails; a run that fails while being written deletes itself.
+     *********************************************************************************************************************************/
+
+    private static final int MAGIC = 0x45444745; // "EDGE"
+    private static final int VERSION = 1;
+    private static final int HEADER_BYTES = 32;
+    private static final int EDGE_BYTES = 12;
+
+    // Edges sorted in memory per run; 4M edges keep the run buffers around 80 MB
+    private static final int DEFAULT_RUN_EDGES = 1 << 22;
+    // Edges buffered per run file while writing or merging
+    private static final int BUFFER_EDGES = 4096;
+    // Runs open at once in a merge, well below the usual limit of 1024 open files per process
+    private static final int MAX_FAN_IN = 256;
+
+    private Path edgeFile;
+    private Path tempDirectory;
+    private int runEdges;
+
+    public ExternalMemoryKruskals(Path edgeFile, Path tempDirectory) {
+        this(edgeFile, tempDirectory, DEFAULT_RUN_EDGES);
+    }
+
+    public ExternalMemoryKruskals(Path edgeFile, Path tempDirectory, int runEdges) {
+        // A run is mapped as one window, and a mapping is limited to 2 GB
+        if (runEdges <= 0 || runEdges > Integer.MAX_VALUE / EDGE_BYTES) {
+            throw new IllegalArgumentException("Run size must be between 1 and " + (Integer.MAX_VALUE / EDGE_BYTES) + " edges.");
+        }
+
+        this.edgeFile = edgeFile;
+        this.tempDirectory = tempDirectory;
+        this.runEdges = runEdges;
+    }
+
+    public static EdgeFileWriter create(Path path, int vertices) throws IOException {
+        return new EdgeFileWriter(path, vertices);
+    }
+
+    public MSTResult execute() throws IOException {
+        List<Path> runs = new ArrayList<>();
+        // Every run file created so far, intermediate runs included, so a failure in any pass leaves nothing behind
+        List<Path> files = new ArrayList<>();
+
+        try (FileChannel channel = FileChannel.open(this.edgeFile, StandardOpenOption.READ)) {
+            ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES);
+            channel.read(header, 0);
+            header.flip();
+            if (header.remaining() < HEADER_BYTES || header.getInt() != MAGIC || header.getInt() != VERSION) {
+                throw new IOException("File is not an edge file.");
+            }
+
+            int vertices = header.getInt();
+            long edgeCount = header.getLong();
+            if (vertices < 0 || edgeCount < 0 || edgeCount > (channel.size() - HEADER_BYTES) / EDGE_BYTES) {
+                throw new IOException("Edge file header does not match the file.");
+            }
+
+            // Step 1: Sorted runs
+            for (long first = 0; first < edgeCount; first += this.runEdges) {
+                int count = (int) Math.min(this.runEdges, edgeCount - first);
+                MappedByteBuffer window = channel.map(FileChannel.MapMode.READ_ONLY, HEADER_BYTES + first * EDGE_BYTES,
+                        (long) count * EDGE_BYTES);
+                Path run = writeRun(window, count, vertices);
+                if (run != null) {
+                    runs.add(run);
+                    files.add(run);
+                }
+            }
+
+            // Step 2: Merge groups of runs into longer runs until one merge can take them all
+            while (runs.size() > MAX_FAN_IN) {
+                List<Path> merged = new ArrayList<>();
+                for (int i = 0; i < runs.size(); i += MAX_FAN_IN) {
+                    List<Path> group = runs.subList(i, Math.min(i + MAX_FAN_IN, runs.size()));
+                    Path longer = mergeRuns(group);
+                    merged.add(longer);
+                    files.add(longer);
+                    for (Path run : group) {
+                        Files.delete(run);
+                    }
+                }
+                runs = merged;
+            }
+
+            // Step 3: The last merge streams straight into Kruskal's algorithm
+            return kruskal(runs, vertices);
+        } finally {
+            // Step 4: Remove the run files; runs already merged were deleted right after their merge
+            for (Path run : files) {
+                Files.deleteIfExists(run);
+            }
+        }
+    }
+
+    // Sorts one window of edges by weight and spills it; returns null if the window held only self-loops
+    private Path writeRun(MappedByteBuffer window, int count, int vertices) throws IOException {
+        int[] sources = new int[count];
+        int[] destinations = new int[count];
+        long[] keys = new long[count];
+        int size = 0;
+
+        for (int i = 0; i < count; i++) {
+            int source = window.getInt();
+            int destination = window.getInt();
+            int weight = window.getInt();
+            // Checked while spilling, so a corrupt file fails before any run is merged instead of inside the disjoint set
+            if (source < 0 || source >= vertices || destination < 0 || destination >= vertices) {
+                throw new IOException("Edge file header does not match the file.");
+            }
+            if (source == destination) {
+                continue;
+            }
+
+            // Weight in the high half, position in the low half: sorting the keys sorts the edges by weight
+            sources[size] = source;
+            destinations[size] = destination;
+            keys[size] = ((long) weight << 32) | size;
+            size++;
+        }
+
+        if (size == 0) {
+            return null;
+        }
+        Arrays.sort(keys, 0, size);
+
+        Path run = Files.createTempFile(this.tempDirectory, "kruskal", ".run");
+        try (FileChannel channel = FileChannel.open(run, StandardOpenOption.WRITE)) {
+            ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_EDGES * EDGE_BYTES);
+            for (int i = 0; i < size; i++) {
+                int index = (int) keys[i];
+                buffer.putInt(sources[index]).putInt(destinations[index]).putInt((int) (keys[i] >> 32));
+                if (!buffer.hasRemaining()) {
+                    writeFully(channel, buffer);
+                }
+            }
+            writeFully(channel, buffer);
+        } catch (IOException | RuntimeException e) {
+            // The caller only learns about complete runs, so a partial one is removed here (e.g. on a full disk)
+            Files.deleteIfExists(run);
+            throw e;
+        }
+
+        return run;
+    }
+
+    // Merges the runs into one longer run
+    private Path mergeRuns(List<Path> runs) throws IOException {
+        Path run = Files.createTempFile(this.tempDirectory, "kruskal", ".run");
+
+        try (FileChannel channel = FileChannel.open(run, StandardOpenOption.WRITE)) {
+            ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_EDGES * EDGE_BYTES);
+            merge(runs, (source, destination, weight) -> {
+                buffer.putInt(source).putInt(destination).putInt(weight);
+                if (!buffer.hasRemaining()) {
+                    writeFully(channel, buffer);
+                }
+                return true;
+            });
+            writeFully(channel, buffer);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(run);
+            throw e;
+        }
+
+        return run;
+    }
+
+    private MSTResult kruskal(List<Path> runs, int vertices) throws IOException {
+        int capacity = Math.max(vertices - 1, 0);
+        int[] sources = new int[capacity];
+        int[] destinations = new int[capacity];
+        int[] weights = new int[capacity];
+        int[] accepted = new int[1];
+        long[] mstWeight = new long[1];
+
+        DisjointSetByRank disjointSet = new DisjointSetByRank(vertices);
+
+        // A spanning tree has exactly V - 1 edges, so the remaining heavier edges are never read
+        merge(runs, (source, destination, weight) -> {
+            if (accepted[0] == capacity) {
+                return false;
+            }
+
+            if (disjointSet.find(source) != disjointSet.find(destination)) {
+                sources[accepted[0]] = source;
+                destinations[accepted[0]] = destination;
+                weights[accepted[0]] = weight;
+                mstWeight[0] += weight;
+                accepted[0]++;
+                disjointSet.union(source, destination);
+            }
+            return true;
+        });
+
+        // Fewer than V - 1 edges means the graph is disconnected and the result is a spanning forest
+        return new MSTResult(mstWeight[0], Arrays.copyOf(sources, accepted[0]), Arrays.copyOf(destinations, accepted[0]),
+                Arrays.copyOf(weights, accepted[0]));
+    }
+
+    // Feeds the edges of all runs to the consumer in weight order, until the runs end or the consumer returns false
+    private void merge(List<Path> runs, EdgeConsumer consumer) throws IOException {
+        List<RunReader> readers = new ArrayList<>();
+        Queue<RunReader> queue = new PriorityQueue<>();
+
+        try {
+            for (Path run : runs) {
+                RunReader reader = new RunReader(run);
+                readers.add(reader);
+                if (reader.advance()) {
+                    queue.offer(reader);
+                }
+            }
+
+            while (!queue.isEmpty()) {
+                RunReader current = queue.poll();
+                if (!consumer.accept(current.source, current.destination, current.weight)) {
+                    return;
+                }
+                if (current.advance()) {
+                    queue.offer(current);
+                }
+            }
+        } finally {
+            // Every reader is closed here, whether it was exhausted, still queued or failed while advancing
+            for (RunReader reader : readers) {
+                reader.close();
+            }
+        }
+    }
+
+    private static void writeFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    interface EdgeConsumer {
+        boolean accept(int source, int destination, int weight) throws IOException;
+    }
+
+    // Appends edges to a new edge file; the edge count in the header is written on close
+    static class EdgeFileWriter implements Closeable {
+        private FileChannel channel;
+        private ByteBuffer buffer;
+        private int vertices;
+        private long edgeCount;
+
+        public EdgeFileWriter(Path path, int vertices) throws IOException {
+            this.channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+                    StandardOpenOption.WRITE);
+            this.buffer = ByteBuffer.allocateDirect(BUFFER_EDGES * EDGE_BYTES);
+            this.vertices = vertices;
+            this.channel.position(HEADER_BYTES);
+        }
+
+        public void addEdge(int source, int destination, int weight) throws IOException {
+            if (source < 0 || source >= this.vertices) {
+                throw new IllegalArgumentException("Source index is out of bounds.");
+            }
+            if (destination < 0 || destination >= this.vertices) {
+                throw new IllegalArgumentException("Destination index is out of bounds.");
+            }
+
+            this.buffer.putInt(source).putInt(destination).putInt(weight);
+            this.edgeCount++;
+            if (!this.buffer.hasRemaining()) {
+                writeFully(this.channel, this.buffer);
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            try {
+                writeFully(this.channel, this.buffer);
+
+                ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES);
+                header.putInt(MAGIC).putInt(VERSION).putInt(this.vertices).putLong(this.edgeCount);
+                header.rewind();
+                this.channel.write(header, 0);
+            } finally {
+                this.channel.close();
+            }
+        }
+    }
+
+    // Reads one sorted run through a small buffer; the current edge is the one the queue orders by
+    static class RunReader implements Comparable<RunReader>, Closeable {
+        FileChannel channel;
+        ByteBuffer buffer;
+        int source;
+        int destination;
+        int weight;
+
+        public RunReader(Path run) throws IOException {
+            this.channel = FileChannel.open(run, StandardOpenOption.READ);
+            this.buffer = ByteBuffer.allocateDirect(BUFFER_EDGES * EDGE_BYTES);
+            this.buffer.flip(); // empty until the first refill
+        }
+
+        // Moves to the next edge of the run; false once the run is exhausted
+        boolean advance() throws IOException {
+            if (this.buffer.remaining() < EDGE_BYTES) {
+                // Keep reading until at least one whole edge is buffered or the file ends
+                this.buffer.compact();
+                while (this.buffer.position() < EDGE_BYTES) {
+                    if (this.channel.read(this.buffer) <= 0) {
+                        break;
+                    }
+                }
+                this.buffer.flip();
+                if (this.buffer.remaining() < EDGE_BYTES) {
+                    return false;
+                }
+            }
+
+            this.source = this.buffer.getInt();
+            this.destination = this.buffer.getInt();
+            this.weight = this.buffer.getInt();
+            return true;
+        }
+
+        @Override
+        public int compareTo(RunReader reader) {
+            return Integer.compare(this.weight, reader.weight);
+        }
+
+        @Override
+        public void close() throws IOException {
+            this.channel.close();
+        }
+    }
+
+    public static void main(String[] args) throws IOException {
+        Path file = Files.createTempFile("graph", ".edges");
+
+        try {
+            try (EdgeFileWriter writer = ExternalMemoryKruskals.create(file, 5)) {
+                writer.addEdge(0, 1, 2);
+                writer.addEdge(0, 3, 6);
+                writer.addEdge(1, 2, 3);
+                writer.addEdge(1, 3, 8);
+                writer.addEdge(1, 4, 5);
+                writer.addEdge(2, 4, 7);
+                writer.addEdge(3, 4, 9);
+            }
+
+            // Runs of 3 edges force three run files and a real merge
+            ExternalMemoryKruskals kruskals = new ExternalMemoryKruskals(file, file.getParent(), 3);
+            MSTResult result = kruskals.execute();
+
+            System.out.println("MST Weight: " + result.weight);
+            System.out.print("MST Path: ");
+            for (int i = 0; i < result.sources.length; i++) {
+                System.out.print("{" + result.sources[i] + "-" + result.destinations[i] + " : " + result.weights[i] + "}, ");
+            }
+        } finally {
+            Files.delete(file);
+        }
+
+        // MST Weight: 16
+        // MST Path: {0-1 : 2}, {1-2 : 3}, {1-4 : 5}, {0-3 : 6},
+    }
+}
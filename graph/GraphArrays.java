@@ -0,0 +1,114 @@
+package graph;
+
+import java.util.*;
+
+final class GraphArrays {
+
+    /*********************************************************************************************************************************
+     * Time Complexity      : O(V + E) to compress an adjacency, O(N) to concatenate N buffered elements.
+     * Space Complexity     : O(V + E) for the compressed rows, O(N) for the concatenated array.
+     *********************************************************************************************************************************
+     * Array helpers shared by the traversals and the parallel algorithms of this package.
+     * 1. Compressed Rows:
+     *      Flatten per-vertex lists into offsets (vertices + 1 entries) and one targets array; the neighbors of v are
+     *      targets[offsets[v] .. offsets[v + 1]). Scanning contiguous ints avoids unboxing and pointer chasing.
+     *      The reversed form counts in-degrees first and places every edge under its destination.
+     * 2. Concatenate:
+     *      Parallel chunks write their output to private buffers; a prefix sum over the buffer sizes gives every chunk
+     *      its slot in the combined array, so no worker ever writes to shared state.
+     *********************************************************************************************************************************/
+
+    private GraphArrays() {
+    }
+
+    // Out-neighbors of every vertex as { offsets, targets }
+    static int[][] compress(List<Integer>[] adj) {
+        int vertices = adj.length;
+        int[] offsets = new int[vertices + 1];
+        for (int i = 0; i < vertices; i++) {
+            offsets[i + 1] = offsets[i] + adj[i].size();
+        }
+
+        int[] targets = new int[offsets[vertices]];
+        for (int i = 0; i < vertices; i++) {
+            int position = offsets[i];
+            for (int adjNode : adj[i]) {
+                targets[position++] = adjNode;
+            }
+        }
+
+        return new int[][] { offsets, targets };
+    }
+
+    // In-neighbors of every vertex as { offsets, targets }
+    static int[][] compressReversed(List<Integer>[] adj) {
+        int vertices = adj.length;
+        int[] offsets = new int[vertices + 1];
+        for (int i = 0; i < vertices; i++) {
+            for (int adjNode : adj[i]) {
+                offsets[adjNode + 1]++;
+            }
+        }
+        for (int i = 0; i < vertices; i++) {
+            offsets[i + 1] += offsets[i];
+        }
+
+        int[] targets = new int[offsets[vertices]];
+        int[] positions = Arrays.copyOf(offsets, vertices);
+        for (int i = 0; i < vertices; i++) {
+            for (int adjNode : adj[i]) {
+                targets[positions[adjNode]++] = i;
+            }
+        }
+
+        return new int[][] { offsets, targets };
+    }
+
+    // Symmetric rows of an undirected edge list: every edge appears under both of its endpoints
+    static int[][] compressUndirected(int vertices, int[] sources, int[] destinations, int edgeCount) {
+        int[] offsets = new int[vertices + 1];
+        for (int i = 0; i < edgeCount; i++) {
+            offsets[sources[i] + 1]++;
+            offsets[destinations[i] + 1]++;
+        }
+        for (int i = 0; i < vertices; i++) {
+            offsets[i + 1] += offsets[i];
+        }
+
+        int[] targets = new int[offsets[vertices]];
+        int[] positions = Arrays.copyOf(offsets, vertices);
+        for (int i = 0; i < edgeCount; i++) {
+            targets[positions[sources[i]]++] = destinations[i];
+            targets[positions[destinations[i]]++] = sources[i];
+        }
+
+        return new int[][] { offsets, targets };
+    }
+
+    // Joins the first counts[i] elements of every buffer, in buffer order
+    static int[] concat(int[][] buffers, int[] counts) {
+        int size = 0;
+        for (int count : counts) {
+            size += count;
+        }
+
+        int[] result = new int[size];
+        int position = 0;
+        for (int i = 0; i < buffers.length; i++) {
+            System.arraycopy(buffers[i], 0, result, position, counts[i]);
+            position += counts[i];
+        }
+
+        return result;
+    }
+
+    // Joins whole buffers, in buffer order
+    static int[] concat(int[][] buffers) {
+        int[] counts = new int[buffers.length];
+        for (int i = 0; i < buffers.length; i++) {
+            counts[i] = buffers[i].length;
+        }
+
+        return concat(buffers, counts);
+    }
+}
@@ -0,0 +1,339 @@
+package graph;
+
+import java.util.*;
+
+public class IncrementalMinimumSpanningTree {
+
+    /*********************************************************************************************************************************
+     * Add Edge         - Time Complexity: O(log V) amortized, a constant number of link-cut tree operations
+     * Queries          - Time Complexity: O(1) for the forest weight and edge count, O(V) to list the forest edges
+     * Space Complexity : O(V), only the current forest is kept; rejected and replaced edges are forgotten
+     *********************************************************************************************************************************
+     * Maintains a minimum spanning forest of an undirected graph whose edges arrive one at a time (cycle property: the
+     * heaviest edge on any cycle is never needed). The forest is stored in a link-cut tree, where every forest edge is an
+     * extra node between its two endpoints, so "heaviest edge on a path" becomes "heaviest node on a path".
+     * 1. Different Trees:
+     *      If the endpoints are not connected, the edge joins two trees: link it in.
+     * 2. Same Tree:
+     *      The edge closes a cycle with the tree path between its endpoints. Find the heaviest edge on that path; if it is
+     *      heavier than the new edge, cut it out and link the new edge in, otherwise drop the new edge.
+     * 3. Link-Cut Tree:
+     *      Every preferred path is a splay tree keyed by depth, and each splay node keeps the heaviest node of its subtree.
+     *      access(x) makes the path from the root to x preferred, makeRoot(x) reverses that path (lazy flag) so x becomes the
+     *      root, and then the path between any two vertices is one splay tree whose aggregate is the path maximum.
+     *********************************************************************************************************************************/
+
+    private int vertices;
+    private long weight;
+    private int edgeCount;
+
+    // Link-cut tree nodes: 0 .. vertices - 1 are vertices, the rest are forest edge slots
+    private int[] left;
+    private int[] right;
+    private int[] parent; // splay parent, or path-parent when the node is the root of its splay tree
+    private boolean[] reversed; // children of this subtree still have to be swapped
+    private int[] maxNode; // heaviest node in the splay subtree
+    private int[] nodeWeight; // edge weight for edge nodes, Integer.MIN_VALUE for vertices
+
+    // Endpoints of every edge node; free slots are chained through edgeSource
+    private int[] edgeSource;
+    private int[] edgeDestination;
+    private int freeSlot = -1;
+    private int usedSlots;
+
+    private IntStack splayPath = new IntStack();
+
+    public IncrementalMinimumSpanningTree(int vertices) {
+        this.vertices = vertices;
+
+        // A forest never has more than vertices - 1 edges
+        int nodes = vertices + Math.max(vertices - 1, 0);
+        this.left = new int[nodes];
+        this.right = new int[nodes];
+        this.parent = new int[nodes];
+        this.reversed = new boolean[nodes];
+        this.maxNode = new int[nodes];
+        this.nodeWeight = new int[nodes];
+        this.edgeSource = new int[nodes - vertices];
+        this.edgeDestination = new int[nodes - vertices];
+
+        Arrays.fill(this.left, -1);
+        Arrays.fill(this.right, -1);
+        Arrays.fill(this.parent, -1);
+        for (int i = 0; i < nodes; i++) {
+            this.maxNode[i] = i;
+            this.nodeWeight[i] = Integer.MIN_VALUE;
+        }
+    }
+
+    // Returns true if the edge is part of the forest after the insertion
+    public boolean addEdge(int source, int destination, int weight) {
+        if (source >= this.vertices) {
+            throw new IllegalArgumentException("Source index is out of bounds.");
+        }
+        if (destination >= this.vertices) {
+            throw new IllegalArgumentException("Destination index is out of bounds.");
+        }
+
+        // A self-loop is a cycle on its own and never in a spanning forest
+        if (source == destination) {
+            return false;
+        }
+
+        // Step 1: Joining two trees
+        if (findRoot(source) != findRoot(destination)) {
+            insertEdge(source, destination, weight);
+            return true;
+        }
+
+        // Step 2: Replace the heaviest edge on the cycle if the new edge is lighter
+        makeRoot(source);
+        access(destination);
+        int heaviest = this.maxNode[destination];
+        if (this.nodeWeight[heaviest] <= weight) {
+            return false;
+        }
+
+        removeEdge(heaviest);
+        insertEdge(source, destination, weight);
+        return true;
+    }
+
+    public boolean isConnected(int x, int y) {
+        return findRoot(x) == findRoot(y);
+    }
+
+    public long getWeight() {
+        return this.weight;
+    }
+
+    public int getEdgeCount() {
+        return this.edgeCount;
+    }
+
+    // Snapshot of the current forest, edges in slot order
+    public MSTResult getForest() {
+        int[] sources = new int[this.edgeCount];
+        int[] destinations = new int[this.edgeCount];
+        int[] weights = new int[this.edgeCount];
+        int index = 0;
+
+        for (int slot = 0; slot < this.usedSlots; slot++) {
+            if (this.edgeDestination[slot] == -1) {
+                continue; // free slot
+            }
+            sources[index] = this.edgeSource[slot];
+            destinations[index] = this.edgeDestination[slot];
+            weights[index] = this.nodeWeight[this.vertices + slot];
+            index++;
+        }
+
+        return new MSTResult(this.weight, sources, destinations, weights);
+    }
+
+    private void insertEdge(int source, int destination, int weight) {
+        int slot;
+        if (this.freeSlot != -1) {
+            slot = this.freeSlot;
+            this.freeSlot = this.edgeSource[slot];
+        } else {
+            slot = this.usedSlots++;
+        }
+
+        int node = this.vertices + slot;
+        this.edgeSource[slot] = source;
+        this.edgeDestination[slot] = destination;
+        this.nodeWeight[node] = weight;
+        this.maxNode[node] = node;
+
+        link(source, node);
+        link(node, destination);
+        this.weight += weight;
+        this.edgeCount++;
+    }
+
+    private void removeEdge(int node) {
+        int slot = node - this.vertices;
+        cut(this.edgeSource[slot], node);
+        cut(node, this.edgeDestination[slot]);
+        this.weight -= this.nodeWeight[node];
+        this.edgeCount--;
+
+        // The node is isolated now; reset it and put the slot on the free list
+        this.nodeWeight[node] = Integer.MIN_VALUE;
+        this.maxNode[node] = node;
+        this.reversed[node] = false;
+        this.edgeSource[slot] = this.freeSlot;
+        this.edgeDestination[slot] = -1;
+        this.freeSlot = slot;
+    }
+
+    private void link(int x, int y) {
+        makeRoot(x);
+        this.parent[x] = y;
+    }
+
+    // x and y must be adjacent in the represented tree
+    private void cut(int x, int y) {
+        makeRoot(x);
+        access(y);
+
+        // x is the root and y's parent, so x is the only node left of y in y's splay tree
+        this.left[y] = -1;
+        this.parent[x] = -1;
+        update(y);
+    }
+
+    private int findRoot(int x) {
+        access(x);
+
+        // The root is the shallowest node, the leftmost one of x's splay tree
+        while (true) {
+            push(x);
+            if (this.left[x] == -1) {
+                break;
+            }
+            x = this.left[x];
+        }
+        splay(x);
+        return x;
+    }
+
+    private void makeRoot(int x) {
+        access(x);
+        this.reversed[x] = !this.reversed[x];
+    }
+
+    // Makes the root-to-x path preferred and leaves x at the root of its splay tree
+    private void access(int x) {
+        int last = -1;
+        for (int y = x; y != -1; y = this.parent[y]) {
+            splay(y);
+            this.right[y] = last;
+            update(y);
+            last = y;
+        }
+        splay(x);
+    }
+
+    private void splay(int x) {
+        // Push pending reversals down from the top of the splay tree before rotating
+        this.splayPath.push(x);
+        for (int y = x; !isSplayRoot(y); y = this.parent[y]) {
+            this.splayPath.push(this.parent[y]);
+        }
+        while (!this.splayPath.isEmpty()) {
+            push(this.splayPath.pop());
+        }
+
+        while (!isSplayRoot(x)) {
+            int y = this.parent[x];
+            if (!isSplayRoot(y)) {
+                int z = this.parent[y];
+                // Zig-zig rotates the parent first, zig-zag rotates x twice
+                if ((this.left[z] == y) == (this.left[y] == x)) {
+                    rotate(y);
+                } else {
+                    rotate(x);
+                }
+            }
+            rotate(x);
+        }
+    }
+
+    private void rotate(int x) {
+        int y = this.parent[x];
+        int z = this.parent[y];
+        boolean yWasRoot = isSplayRoot(y);
+
+        if (this.left[y] == x) {
+            this.left[y] = this.right[x];
+            if (this.right[x] != -1) {
+                this.parent[this.right[x]] = y;
+            }
+            this.right[x] = y;
+        } else {
+            this.right[y] = this.left[x];
+            if (this.left[x] != -1) {
+                this.parent[this.left[x]] = y;
+            }
+            this.left[x] = y;
+        }
+
+        // x takes y's place; when y was a splay root, its path-parent pointer moves to x
+        if (!yWasRoot) {
+            if (this.left[z] == y) {
+                this.left[z] = x;
+            } else {
+                this.right[z] = x;
+            }
+        }
+        this.parent[x] = z;
+        this.parent[y] = x;
+
+        update(y);
+        update(x);
+    }
+
+    private boolean isSplayRoot(int x) {
+        int p = this.parent[x];
+        return p == -1 || (this.left[p] != x && this.right[p] != x);
+    }
+
+    private void push(int x) {
+        if (!this.reversed[x]) {
+            return;
+        }
+
+        int swap = this.left[x];
+        this.left[x] = this.right[x];
+        this.right[x] = swap;
+        if (this.left[x] != -1) {
+            this.reversed[this.left[x]] = !this.reversed[this.left[x]];
+        }
+        if (this.right[x] != -1) {
+            this.reversed[this.right[x]] = !this.reversed[this.right[x]];
+        }
+        this.reversed[x] = false;
+    }
+
+    private void update(int x) {
+        int best = x;
+        if (this.left[x] != -1 && this.nodeWeight[this.maxNode[this.left[x]]] > this.nodeWeight[best]) {
+            best = this.maxNode[this.left[x]];
+        }
+        if (this.right[x] != -1 && this.nodeWeight[this.maxNode[this.right[x]]] > this.nodeWeight[best]) {
+            best = this.maxNode[this.right[x]];
+        }
+        this.maxNode[x] = best;
+    }
+
+    public static void main(String[] args) {
+        IncrementalMinimumSpanningTree mst = new IncrementalMinimumSpanningTree(5);
+        mst.addEdge(0, 1, 9);
+        mst.addEdge(1, 2, 3);
+        mst.addEdge(2, 3, 8);
+        System.out.println("Forest Weight: " + mst.getWeight() + ", Edges: " + mst.getEdgeCount());
+
+        // Closes 0-1-2 and is lighter than 0-1 : replaces it
+        System.out.println("Add 0-2 : 2 -> " + mst.addEdge(0, 2, 2));
+        // Closes 1-2-3 but is heavier than every edge on the path : dropped
+        System.out.println("Add 1-3 : 10 -> " + mst.addEdge(1, 3, 10));
+        // Joins vertex 4
+        System.out.println("Add 3-4 : 1 -> " + mst.addEdge(3, 4, 1));
+
+        MSTResult forest = mst.getForest();
+        System.out.println("Forest Weight: " + forest.weight);
+        System.out.print("Forest Edges: ");
+        for (int i = 0; i < forest.sources.length; i++) {
+            System.out.print("{" + forest.sources[i] + "-" + forest.destinations[i] + " : " + forest.weights[i] + "}, ");
+        }
+
+        // Forest Weight: 20, Edges: 3
+        // Add 0-2 : 2 -> true
+        // Add 1-3 : 10 -> false
+        // Add 3-4 : 1 -> true
+        // Forest Weight: 14
+        // Forest Edges: {0-2 : 2}, {1-2 : 3}, {2-3 : 8}, {3-4 : 1},
+    }
+}
@@ -0,0 +1,215 @@
+package graph;
+
+import java.util.*;
+
+public class IncrementalSCC {
+
+    /*********************************************************************************************************************************
+     * Add Edge         - Time Complexity: O(1) when the edge agrees with the current order, otherwise O(K log K) where K is the
+     *                    number of components (and their edges) between the two endpoints in the order.
+     * Queries          - Time Complexity: O(α(V)) for isStronglyConnected / getComponent / isCyclic.
+     * Space Complexity : O(V + E), for the edge lists, the disjoint set and the order.
+     *********************************************************************************************************************************
+     * SCCs are kept as sets of a DisjointSetBySize; every component (by representative) has a position in a topological
+     * order of the condensation DAG, maintained by PearceKellyOrder.
+     * 1. Edge Agrees With the Order:
+     *      If the edge points forward in the order, or both endpoints are already in one component, nothing changes.
+     * 2. No Cycle:
+     *      Search the affected region in both directions and reorder it, as for an acyclic graph.
+     * 3. Cycle (from's component reached by the forward search):
+     *      The components found by both searches lie on a path from to back to from; with the new edge they form one SCC.
+     *      Union them, move their edge lists to the new representative and lay out the backward-only components, the
+     *      merged component and the forward-only components in the region. Positions of the merged-away components are
+     *      left empty.
+     *********************************************************************************************************************************/
+
+    private int vertices;
+    private DisjointSetBySize components;
+    private List<Integer>[] out; // raw edges leaving each component, held by its representative
+    private List<Integer>[] in; // raw edges entering each component, held by its representative
+    private PearceKellyOrder order; // positions of the components, by representative
+    private boolean[] cyclic; // component holds a cycle (more than one vertex or a self-loop)
+    private int componentCount;
+    private int cyclicCount;
+    private PearceKellyOrder.Neighbors neighbors;
+
+    @SuppressWarnings("unchecked")
+    public IncrementalSCC(int vertices) {
+        this.vertices = vertices;
+        this.components = new DisjointSetBySize(vertices);
+        this.out = new ArrayList[vertices];
+        this.in = new ArrayList[vertices];
+        this.order = new PearceKellyOrder(vertices);
+        this.cyclic = new boolean[vertices];
+        this.componentCount = vertices;
+
+        for (int i = 0; i < vertices; i++) {
+            this.out[i] = new ArrayList<>();
+            this.in[i] = new ArrayList<>();
+        }
+
+        // Edges are stored per raw vertex, so the searches see the component of each endpoint, skipping internal edges
+        this.neighbors = (component, isForward, visit) -> {
+            for (int vertex : isForward ? this.out[component] : this.in[component]) {
+                int adjComponent = this.components.find(vertex);
+                if (adjComponent != component) {
+                    visit.accept(adjComponent);
+                }
+            }
+        };
+    }
+
+    // Returns true if the edge closed a cycle that merged two or more components
+    public boolean addEdge(int source, int destination) {
+        if (source >= this.vertices) {
+            throw new IllegalArgumentException("Source index is out of bounds.");
+        }
+        if (destination >= this.vertices) {
+            throw new IllegalArgumentException("Destination index is out of bounds.");
+        }
+
+        int from = this.components.find(source);
+        int to = this.components.find(destination);
+
+        // The searches skip components they already marked, so a parallel edge costs one extra check there
+        this.out[from].add(destination);
+        this.in[to].add(source);
+
+        // Step 1: Edges inside a component or along the order change nothing
+        if (from == to) {
+            markCyclic(from);
+            return false;
+        }
+        if (this.order.getPosition(from) < this.order.getPosition(to)) {
+            return false;
+        }
+
+        // Step 2: Search the affected region
+        int lower = this.order.getPosition(to);
+        int upper = this.order.getPosition(from);
+        this.order.newSearch();
+
+        IntStack forward = this.order.searchForward(to, upper, this.neighbors);
+        IntStack backward = this.order.searchBackward(from, lower, this.neighbors);
+
+        if (!this.order.isForwardMarked(from)) {
+            this.order.reorder(backward.toArray(), -1, forward.toArray());
+            return false;
+        }
+
+        // Step 3: Components in both searches lie on the new cycle
+        IntStack cycle = new IntStack();
+        IntStack backwardOnly = new IntStack();
+        IntStack forwardOnly = new IntStack();
+        for (int component : backward.toArray()) {
+            if (this.order.isForwardMarked(component)) {
+                cycle.push(component);
+            } else {
+                backwardOnly.push(component);
+            }
+        }
+        for (int component : forward.toArray()) {
+            if (!this.order.isBackwardMarked(component)) {
+                forwardOnly.push(component);
+            }
+        }
+
+        int merged = merge(cycle.toArray());
+        this.order.reorder(backwardOnly.toArray(), merged, forwardOnly.toArray());
+        return true;
+    }
+
+    public boolean isStronglyConnected(int x, int y) {
+        return this.components.find(x) == this.components.find(y);
+    }
+
+    // Representative vertex of the component holding the vertex
+    public int getComponent(int vertex) {
+        return this.components.find(vertex);
+    }
+
+    public int getComponentCount() {
+        return this.componentCount;
+    }
+
+    // True if the vertex lies on a cycle
+    public boolean isCyclic(int vertex) {
+        return this.cyclic[this.components.find(vertex)];
+    }
+
+    // True if the graph has any cycle
+    public boolean hasCycle() {
+        return this.cyclicCount > 0;
+    }
+
+    // Component representatives in topological order of the condensation DAG
+    public int[] getTopologicalOrder() {
+        int[] order = new int[this.componentCount];
+        int count = 0;
+        for (int position = 0; position < this.order.size(); position++) {
+            int component = this.order.getNode(position);
+            if (component != -1) {
+                order[count++] = component;
+            }
+        }
+        return order;
+    }
+
+    // Unions the components into one and moves their edge lists to the new representative
+    private int merge(int[] cycle) {
+        for (int i = 1; i < cycle.length; i++) {
+            this.components.union(cycle[0], cycle[i]);
+        }
+
+        int merged = this.components.find(cycle[0]);
+        for (int component : cycle) {
+            if (component != merged) {
+                this.order.remove(component);
+                this.out[merged].addAll(this.out[component]);
+                this.in[merged].addAll(this.in[component]);
+                this.out[component] = null;
+                this.in[component] = null;
+            }
+
+            if (this.cyclic[component]) {
+                this.cyclic[component] = false;
+                this.cyclicCount--;
+            }
+        }
+
+        this.componentCount -= cycle.length - 1;
+        markCyclic(merged);
+        return merged;
+    }
+
+    private void markCyclic(int component) {
+        if (!this.cyclic[component]) {
+            this.cyclic[component] = true;
+            this.cyclicCount++;
+        }
+    }
+
+    public static void main(String[] args) {
+        // A small build-dependency graph
+        IncrementalSCC graph = new IncrementalSCC(5);
+        graph.addEdge(0, 1);
+        graph.addEdge(1, 2);
+        graph.addEdge(2, 3);
+        graph.addEdge(4, 0);
+
+        System.out.println("Order: " + Arrays.toString(graph.getTopologicalOrder()) + ", Cycle: " + graph.hasCycle());
+
+        // 3 -> 1 closes the cycle 1 -> 2 -> 3 -> 1
+        System.out.println("Merged: " + graph.addEdge(3, 1));
+        System.out.println("1 ~ 3: " + graph.isStronglyConnected(1, 3) + ", 0 ~ 1: " + graph.isStronglyConnected(0, 1));
+        System.out.println("Components: " + graph.getComponentCount() + ", Cycle: " + graph.hasCycle());
+        System.out.println("Order: " + Arrays.toString(graph.getTopologicalOrder()));
+
+        // Expected Output:
+        // Order: [4, 0, 1, 2, 3], Cycle: false
+        // Merged: true
+        // 1 ~ 3: true, 0 ~ 1: false
+        // Components: 3, Cycle: true
+        // Order: [4, 0, 2]
+    }
+}
@@ -0,0 +1,120 @@
+package graph;
+
+import java.util.NoSuchElementException;
+
+public class IntRingQueue {
+
+    /*********************************************************************************************************************************
+     * Offer / Poll / Peek  : O(1) amortized
+     * Space Complexity     : O(N), a single int array
+     *********************************************************************************************************************************
+     * A growable FIFO queue of primitive ints on a circular buffer, replacing LinkedList<Integer> as a work queue.
+     * LinkedList allocates a node plus a boxed Integer for every element; this queue stores the ints in place.
+     * 1. Layout: The capacity is a power of two, so wrapping an index around the buffer is a bit mask instead of a division.
+     *            head is the index of the oldest element and size the number of elements stored after it.
+     * 2. Offer: Write at (head + size) & mask. When the buffer is full, copy the elements in order into one twice as large.
+     * 3. Poll: Read at head and advance it by one, wrapping around the end of the buffer.
+     *********************************************************************************************************************************/
+
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private int[] elements;
+    private int head;
+    private int size;
+
+    public IntRingQueue() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public IntRingQueue(int capacity) {
+        if (capacity < 0 || capacity > (1 << 30)) {
+            throw new IllegalArgumentException("Capacity must be between 0 and 2^30.");
+        }
+
+        // Round up to a power of two so the index mask works
+        int length = 1;
+        while (length < capacity) {
+            length <<= 1;
+        }
+        this.elements = new int[length];
+    }
+
+    public void offer(int value) {
+        if (this.size == this.elements.length) {
+            grow();
+        }
+
+        this.elements[(this.head + this.size) & (this.elements.length - 1)] = value;
+        this.size++;
+    }
+
+    public int poll() {
+        if (this.size == 0) {
+            throw new NoSuchElementException("Queue is empty.");
+        }
+
+        int value = this.elements[this.head];
+        this.head = (this.head + 1) & (this.elements.length - 1);
+        this.size--;
+
+        return value;
+    }
+
+    public int peek() {
+        if (this.size == 0) {
+            throw new NoSuchElementException("Queue is empty.");
+        }
+
+        return this.elements[this.head];
+    }
+
+    public boolean isEmpty() {
+        return this.size == 0;
+    }
+
+    public int size() {
+        return this.size;
+    }
+
+    public void clear() {
+        this.head = 0;
+        this.size = 0;
+    }
+
+    private void grow() {
+        if (this.elements.length == (1 << 30)) {
+            throw new IllegalStateException("Queue capacity exceeded.");
+        }
+
+        // Unroll the wrapped elements so the oldest one lands at index 0
+        int[] grown = new int[this.elements.length * 2];
+        int firstPart = this.elements.length - this.head;
+        System.arraycopy(this.elements, this.head, grown, 0, firstPart);
+        System.arraycopy(this.elements, 0, grown, firstPart, this.head);
+
+        this.elements = grown;
+        this.head = 0;
+    }
+
+    public static void main(String[] args) {
+        IntRingQueue queue = new IntRingQueue(4);
+        queue.offer(0);
+        queue.offer(1);
+        queue.offer(2);
+        queue.poll();
+        queue.poll();
+
+        // The buffer wraps around and then grows while elements sit on both sides of its end
+        for (int i = 3; i < 8; i++) {
+            queue.offer(i);
+        }
+
+        System.out.println("Peek: " + queue.peek());
+        while (!queue.isEmpty()) {
+            System.out.print(queue.poll() + ", ");
+        }
+
+        // Peek: 2
+        // 2, 3, 4, 5, 6, 7,
+    }
+}
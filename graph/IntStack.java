@@ -0,0 +1,91 @@
+package graph;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+public class IntStack {
+
+    /*********************************************************************************************************************************
+     * Push / Pop / Peek    : O(1) amortized
+     * Space Complexity     : O(N), a single int array
+     *********************************************************************************************************************************
+     * A growable LIFO stack of primitive ints, replacing java.util.Stack<Integer> in the traversals.
+     * Stack extends Vector, so every call takes a lock, and each element is a boxed Integer; this stack does neither.
+     * 1. Push: Store at the top index, doubling the array when it is full.
+     * 2. Pop: Return the element at the top index and move the index down. The array never shrinks, so a stack reused
+     *         across traversals allocates nothing once it has grown to the deepest search.
+     *********************************************************************************************************************************/
+
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private int[] elements;
+    private int size;
+
+    public IntStack() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public IntStack(int capacity) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("Capacity must not be negative.");
+        }
+
+        this.elements = new int[Math.max(capacity, 1)];
+    }
+
+    public void push(int value) {
+        if (this.size == this.elements.length) {
+            this.elements = Arrays.copyOf(this.elements, this.size * 2);
+        }
+
+        this.elements[this.size++] = value;
+    }
+
+    public int pop() {
+        if (this.size == 0) {
+            throw new NoSuchElementException("Stack is empty.");
+        }
+
+        return this.elements[--this.size];
+    }
+
+    public int peek() {
+        if (this.size == 0) {
+            throw new NoSuchElementException("Stack is empty.");
+        }
+
+        return this.elements[this.size - 1];
+    }
+
+    public boolean isEmpty() {
+        return this.size == 0;
+    }
+
+    public int size() {
+        return this.size;
+    }
+
+    public void clear() {
+        this.size = 0;
+    }
+
+    // Elements from the bottom of the stack to the top, i.e. in the order they were pushed
+    public int[] toArray() {
+        return Arrays.copyOf(this.elements, this.size);
+    }
+
+    public static void main(String[] args) {
+        IntStack stack = new IntStack(2);
+        for (int i = 0; i < 5; i++) {
+            stack.push(i);
+        }
+
+        System.out.println("Peek: " + stack.peek());
+        while (!stack.isEmpty()) {
+            System.out.print(stack.pop() + ", ");
+        }
+
+        // Peek: 4
+        // 4, 3, 2, 1, 0,
+    }
+}
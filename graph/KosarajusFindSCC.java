@@ -51,7 +51,7 @@ public class KosarajusFindSCC {
     @SuppressWarnings("unchecked")
     public List<List<Integer>> execute() {
         // Step 1: Perform a DFS to determine the finishing order of vertices
-        Stack<Integer> finishingOrder = new Stack<>();
+        IntStack finishingOrder = new IntStack(this.vertices);
         boolean[] visited = new boolean[this.vertices];
 
         for (int i = 0; i < this.vertices; i++) {
@@ -96,7 +96,7 @@ public class KosarajusFindSCC {
     private List<Integer> getStronglyConnectedComponent(List<Integer>[] graph, int startNode, boolean[] visited) {
         List<Integer> result = new ArrayList<>();
 
-        Stack<Integer> stack = new Stack<>();
+        IntStack stack = new IntStack();
         stack.push(startNode);
 
         while (!stack.isEmpty()) {
@@ -108,7 +108,7 @@ public class KosarajusFindSCC {
                 // Add all unvisited adjacent nodes to the stack
                 for (int adjNode : graph[current]) {
                     if (!visited[adjNode]) {
-                        stack.add(adjNode);
+                        stack.push(adjNode);
                     }
                 }
             }
@@ -117,8 +117,8 @@ public class KosarajusFindSCC {
         return result;
     }
 
-    private void fillFinishingOrderUsingDFS(int node, boolean[] visited, Stack<Integer> order) {
-        Stack<Integer> stack = new Stack<>();
+    private void fillFinishingOrderUsingDFS(int node, boolean[] visited, IntStack order) {
+        IntStack stack = new IntStack();
 
         stack.push(node);
 
@@ -0,0 +1,37 @@
+package graph;
+
+public class MSTResult {
+
+    /*********************************************************************************************************************************
+     * Space Complexity : O(V), three int arrays of at most V - 1 edges
+     *********************************************************************************************************************************
+     * The spanning forest returned by every minimum spanning tree engine of this package (Kruskal, Boruvka, Prim, the
+     * incremental and the external memory variants), so a caller can swap one engine for another.
+     * 1. Edges: Edge i joins sources[i] and destinations[i] with weight weights[i]; the arrays are exactly as long as the
+     *           forest, which has V - 1 edges when the graph is connected and fewer otherwise.
+     * 2. Order: Each engine keeps the edges in the order it accepted them, e.g. ascending weight for Kruskal.
+     * 3. Weight: The total is a long, since V - 1 int weights can overflow an int.
+     *********************************************************************************************************************************/
+
+    long weight; // total weight of the spanning forest
+    int[] sources;
+    int[] destinations;
+    int[] weights;
+
+    public MSTResult(long weight, int[] sources, int[] destinations, int[] weights) {
+        this.weight = weight;
+        this.sources = sources;
+        this.destinations = destinations;
+        this.weights = weights;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < this.sources.length; i++) {
+            builder.append("{").append(this.sources[i]).append("-").append(this.destinations[i]).append(" : ")
+                    .append(this.weights[i]).append("}, ");
+        }
+        return builder.toString().trim();
+    }
+}
@@ -0,0 +1,224 @@
+package graph;
+
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.stream.IntStream;
+
+public class MinimumSpanningTreeBoruvka {
+
+    /*********************************************************************************************************************************
+     * Time Complexity      : O((E + V) log V / P) with P workers, as every round at least halves the number of components.
+     * Space Complexity     : O(V + E), for the edge arrays, the live edge list and the per-component minimum edges.
+     *********************************************************************************************************************************
+     * Parallel Borůvka on an undirected graph, built on DisjointSetConcurrent (lock-free union-find). The result is a minimum
+     * spanning forest when the graph is disconnected.
+     * 1. Edge Order:
+     *      Edges are compared by (weight, index), so no two edges are equal. This makes the minimum outgoing edge of every
+     *      component unique, and the chosen edges can never close a cycle.
+     * 2. Minimum Outgoing Edge:
+     *      Scan the live edges in parallel chunks. An edge between two components offers itself to both of their slots with a
+     *      compare-and-set minimum on one packed long (weight in the high half, edge index in the low half).
+     * 3. Merge:
+     *      Union the endpoints of every chosen edge in parallel. Two components may pick the same edge; only the union that
+     *      actually merges them records it, so every tree edge is taken exactly once.
+     * 4. Relabel and Filter:
+     *      Compress every vertex to its root, then keep only the edges whose endpoints are still in different components.
+     *      Each chunk writes its surviving edges to a private buffer and a prefix sum places them in the next edge list.
+     * 5. Repeat until no component has an outgoing edge.
+     *********************************************************************************************************************************/
+
+    // Edges handled by one task when scanning or filtering the edge list
+    private static final int CHUNK_SIZE = 4096;
+    // Slot value of a component that has not been offered any edge yet
+    private static final long NO_EDGE = Long.MAX_VALUE;
+
+    private int vertices;
+    private int[] edgeSources;
+    private int[] edgeDestinations;
+    private int[] edgeWeights;
+    private int edgeCount;
+
+    public MinimumSpanningTreeBoruvka(int vertices) {
+        this.vertices = vertices;
+        this.edgeSources = new int[16];
+        this.edgeDestinations = new int[16];
+        this.edgeWeights = new int[16];
+    }
+
+    public void addEdge(int source, int destination, int weight) {
+        if (source >= this.vertices) {
+            throw new IllegalArgumentException("Source index is out of bounds.");
+        }
+        if (destination >= this.vertices) {
+            throw new IllegalArgumentException("Destination index is out of bounds.");
+        }
+
+        // Edges are kept as flat arrays rather than per-vertex lists, each undirected edge once
+        if (this.edgeCount == this.edgeSources.length) {
+            int capacity = this.edgeCount * 2;
+            this.edgeSources = Arrays.copyOf(this.edgeSources, capacity);
+            this.edgeDestinations = Arrays.copyOf(this.edgeDestinations, capacity);
+            this.edgeWeights = Arrays.copyOf(this.edgeWeights, capacity);
+        }
+        this.edgeSources[this.edgeCount] = source;
+        this.edgeDestinations[this.edgeCount] = destination;
+        this.edgeWeights[this.edgeCount] = weight;
+        this.edgeCount++;
+    }
+
+    public MSTResult execute() {
+        return execute(ForkJoinPool.commonPool());
+    }
+
+    public MSTResult execute(ForkJoinPool pool) {
+        DisjointSetConcurrent disjointSet = new DisjointSetConcurrent(this.vertices);
+        AtomicLongArray minimumEdge = new AtomicLongArray(this.vertices);
+        boolean[] inTree = new boolean[this.edgeCount];
+
+        int[] component = new int[this.vertices];
+        for (int i = 0; i < this.vertices; i++) {
+            component[i] = i;
+            minimumEdge.set(i, NO_EDGE);
+        }
+
+        int[] live = new int[this.edgeCount];
+        for (int i = 0; i < this.edgeCount; i++) {
+            live[i] = i;
+        }
+        live = filter(pool, live, component); // drops self-loops
+
+        while (live.length > 0) {
+            int[] edges = live;
+
+            // Step 2: Offer every live edge to the components on both of its ends
+            forEachChunk(pool, edges.length, (from, to) -> {
+                for (int i = from; i < to; i++) {
+                    int edge = edges[i];
+                    long key = ((long) this.edgeWeights[edge] << 32) | edge;
+                    offer(minimumEdge, component[this.edgeSources[edge]], key);
+                    offer(minimumEdge, component[this.edgeDestinations[edge]], key);
+                }
+            });
+
+            // Step 3: Merge along the chosen edges; only roots were offered an edge, so only they are visited
+            forEachChunk(pool, this.vertices, (from, to) -> {
+                for (int v = from; v < to; v++) {
+                    long key = minimumEdge.get(v);
+                    if (key == NO_EDGE) {
+                        continue;
+                    }
+                    minimumEdge.set(v, NO_EDGE);
+
+                    int edge = (int) key;
+                    if (disjointSet.union(this.edgeSources[edge], this.edgeDestinations[edge])) {
+                        inTree[edge] = true;
+                    }
+                }
+            });
+
+            // Step 4: Relabel every vertex and drop the edges that now lie inside a component
+            forEachChunk(pool, this.vertices, (from, to) -> {
+                for (int v = from; v < to; v++) {
+                    component[v] = disjointSet.compress(v);
+                }
+            });
+            live = filter(pool, edges, component);
+        }
+
+        return getResult(inTree);
+    }
+
+    // Lowers the component's slot to the key unless it already holds a smaller one
+    private void offer(AtomicLongArray minimumEdge, int root, long key) {
+        long current = minimumEdge.get(root);
+        while (key < current && !minimumEdge.compareAndSet(root, current, key)) {
+            current = minimumEdge.get(root);
+        }
+    }
+
+    // Keeps the edges whose endpoints are in different components, in their current order
+    private int[] filter(ForkJoinPool pool, int[] edges, int[] component) {
+        int chunks = (edges.length + CHUNK_SIZE - 1) / CHUNK_SIZE;
+        int[][] buffers = new int[chunks][];
+        int[] counts = new int[chunks];
+
+        pool.submit(() -> IntStream.range(0, chunks).parallel().forEach(chunk -> {
+            int start = chunk * CHUNK_SIZE;
+            int end = Math.min(start + CHUNK_SIZE, edges.length);
+            int[] buffer = new int[end - start];
+            int count = 0;
+
+            for (int i = start; i < end; i++) {
+                int edge = edges[i];
+                if (component[this.edgeSources[edge]] != component[this.edgeDestinations[edge]]) {
+                    buffer[count++] = edge;
+                }
+            }
+
+            buffers[chunk] = buffer;
+            counts[chunk] = count;
+        })).join();
+
+        return GraphArrays.concat(buffers, counts);
+    }
+
+    // Runs the body over [0, size) in ranges of CHUNK_SIZE inside the given pool
+    private void forEachChunk(ForkJoinPool pool, int size, ChunkBody body) {
+        int chunks = (size + CHUNK_SIZE - 1) / CHUNK_SIZE;
+        pool.submit(() -> IntStream.range(0, chunks).parallel()
+                .forEach(chunk -> body.run(chunk * CHUNK_SIZE, Math.min((chunk + 1) * CHUNK_SIZE, size)))).join();
+    }
+
+    private MSTResult getResult(boolean[] inTree) {
+        int count = 0;
+        for (boolean taken : inTree) {
+            if (taken) {
+                count++;
+            }
+        }
+
+        int[] sources = new int[count];
+        int[] destinations = new int[count];
+        int[] weights = new int[count];
+        long mstWeight = 0;
+        int index = 0;
+
+        for (int edge = 0; edge < inTree.length; edge++) {
+            if (inTree[edge]) {
+                sources[index] = this.edgeSources[edge];
+                destinations[index] = this.edgeDestinations[edge];
+                weights[index] = this.edgeWeights[edge];
+                mstWeight += this.edgeWeights[edge];
+                index++;
+            }
+        }
+
+        return new MSTResult(mstWeight, sources, destinations, weights);
+    }
+
+    interface ChunkBody {
+        void run(int from, int to);
+    }
+
+    public static void main(String[] args) {
+        MinimumSpanningTreeBoruvka graph = new MinimumSpanningTreeBoruvka(5);
+        graph.addEdge(0, 1, 2);
+        graph.addEdge(0, 3, 6);
+        graph.addEdge(1, 2, 3);
+        graph.addEdge(1, 3, 8);
+        graph.addEdge(1, 4, 5);
+        graph.addEdge(2, 4, 7);
+        graph.addEdge(3, 4, 9);
+
+        MSTResult result = graph.execute();
+        System.out.println("MST Weight: " + result.weight);
+        System.out.print("MST Path: ");
+        for (int i = 0; i < result.sources.length; i++) {
+            System.out.print("{" + result.sources[i] + "-" + result.destinations[i] + " : " + result.weights[i] + "}, ");
+        }
+
+        // MST Weight: 16
+        // MST Path: {0-1 : 2}, {0-3 : 6}, {1-2 : 3}, {1-4 : 5},
+    }
+}
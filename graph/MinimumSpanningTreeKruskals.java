@@ -28,11 +28,35 @@ public class MinimumSpanningTreeKruskals {
      *          If no cycle is formed, add the edge to the MST and merge the components.
      * 5. Output:
      *      Print the total weight and edges of the Minimum Spanning Tree (MST).
+     *********************************************************************************************************************************
+     * Edge Array Variant (executeRadix):
+     *      Time Complexity  : O(E + V * α(V)) for integer weights, four byte-wide counting passes instead of a comparison sort
+     *      Space Complexity : O(E + V)
+     * 1. Every addEdge call is also recorded once in parallel source/destination/weight arrays, so an undirected edge is
+     *    sorted once rather than as two adjacency copies, and no Edge object is created for the sort.
+     * 2. LSD Radix Sort:
+     *      Sort the edge indices by weight, one byte per pass from the least significant byte. The sign bit is flipped so
+     *      negative weights order correctly, and a pass is skipped when every weight has the same byte at that position.
+     * 3. Scan the sorted edges with the Disjoint Set as above and stop as soon as V - 1 edges are accepted.
+     *********************************************************************************************************************************
+     * Single-Linkage Clustering (executeClustering):
+     *      Time Complexity  : O(E + M * log E) where M is the number of edges taken from the heap before stopping
+     *      Space Complexity : O(E + V)
+     * 1. Threshold Filter: Drop every edge heavier than the threshold in one pass; it could never join two clusters.
+     * 2. Lazy Order: Heapify the remaining edge indices in O(E) and pop them by weight, so edges after the stopping point
+     *    are never sorted.
+     * 3. Merge: Kruskal's loop as above, stopping when the target number of clusters is left or the heap is empty.
+     * 4. Labels: Number the disjoint-set roots 0 .. k - 1 in order of their smallest vertex.
+     * 5. Dendrogram (optional): Merge i joins two clusters into the new cluster V + i; leaves are the vertices themselves.
      *********************************************************************************************************************************/
 
     private int vertices;
     private boolean directed;
     private List<Edge>[] adj;
+    private int[] edgeSources = new int[16];
+    private int[] edgeDestinations = new int[16];
+    private int[] edgeWeights = new int[16];
+    private int edgeCount;
 
     @SuppressWarnings("unchecked")
     public MinimumSpanningTreeKruskals(int vertices, boolean directed) {
@@ -53,6 +77,18 @@ public class MinimumSpanningTreeKruskals {
         if (!this.directed) {
             this.adj[destination].add(new Edge(destination, source, weight));
         }
+
+        // Record the edge once for executeRadix, whichever direction it was added in
+        if (this.edgeCount == this.edgeSources.length) {
+            int capacity = this.edgeCount * 2;
+            this.edgeSources = Arrays.copyOf(this.edgeSources, capacity);
+            this.edgeDestinations = Arrays.copyOf(this.edgeDestinations, capacity);
+            this.edgeWeights = Arrays.copyOf(this.edgeWeights, capacity);
+        }
+        this.edgeSources[this.edgeCount] = source;
+        this.edgeDestinations[this.edgeCount] = destination;
+        this.edgeWeights[this.edgeCount] = weight;
+        this.edgeCount++;
     }
 
     public void execute() {
@@ -93,6 +129,172 @@ public class MinimumSpanningTreeKruskals {
         }
     }
 
+    public MSTResult executeRadix() {
+        int[] sorted = sortByWeight();
+        int[] sources = new int[Math.max(this.vertices - 1, 0)];
+        int[] destinations = new int[sources.length];
+        int[] weights = new int[sources.length];
+        int accepted = 0;
+        long mstWeight = 0;
+
+        DisjointSetByRank disjointSet = new DisjointSetByRank(this.vertices);
+
+        // A spanning tree has exactly V - 1 edges, so the remaining heavier edges are never looked at
+        for (int i = 0; i < sorted.length && accepted < sources.length; i++) {
+            int edge = sorted[i];
+            int sourceRoot = disjointSet.find(this.edgeSources[edge]);
+            int destinationRoot = disjointSet.find(this.edgeDestinations[edge]);
+
+            // Check if the edge forms a cycle
+            if (sourceRoot == destinationRoot) {
+                continue;
+            }
+
+            sources[accepted] = this.edgeSources[edge];
+            destinations[accepted] = this.edgeDestinations[edge];
+            weights[accepted] = this.edgeWeights[edge];
+            mstWeight += this.edgeWeights[edge];
+            accepted++;
+            disjointSet.union(sourceRoot, destinationRoot);
+        }
+
+        // Fewer than V - 1 edges means the graph is disconnected and the result is a spanning forest
+        return new MSTResult(mstWeight, Arrays.copyOf(sources, accepted), Arrays.copyOf(destinations, accepted),
+                Arrays.copyOf(weights, accepted));
+    }
+
+    // LSD radix sort of the edge indices by weight, 8 bits per pass; stable, so equal weights keep insertion order
+    private int[] sortByWeight() {
+        int size = this.edgeCount;
+        int[] keys = new int[size];
+        int[] indices = new int[size];
+        for (int i = 0; i < size; i++) {
+            // Flipping the sign bit makes the unsigned byte order match the signed weight order
+            keys[i] = this.edgeWeights[i] ^ Integer.MIN_VALUE;
+            indices[i] = i;
+        }
+
+        int[] keyBuffer = new int[size];
+        int[] indexBuffer = new int[size];
+        int[] countArray = new int[257];
+
+        for (int shift = 0; shift < 32; shift += 8) {
+            Arrays.fill(countArray, 0);
+            for (int i = 0; i < size; i++) {
+                countArray[((keys[i] >>> shift) & 0xFF) + 1]++;
+            }
+
+            // Every key has the same byte here, so this pass would not move anything
+            if (size == 0 || countArray[((keys[0] >>> shift) & 0xFF) + 1] == size) {
+                continue;
+            }
+
+            // Turn the counts into the first output position of each byte value
+            for (int i = 1; i < countArray.length; i++) {
+                countArray[i] += countArray[i - 1];
+            }
+
+            for (int i = 0; i < size; i++) {
+                int index = countArray[(keys[i] >>> shift) & 0xFF]++;
+                keyBuffer[index] = keys[i];
+                indexBuffer[index] = indices[i];
+            }
+
+            int[] swap = keys;
+            keys = keyBuffer;
+            keyBuffer = swap;
+            swap = indices;
+            indices = indexBuffer;
+            indexBuffer = swap;
+        }
+
+        return indices;
+    }
+
+    // Clusters joined by edges of weight <= maxWeight, without a dendrogram
+    public ClusterResult executeClustering(int maxWeight) {
+        return executeClustering(maxWeight, 1, false);
+    }
+
+    // Merges the lightest edges until `clusters` clusters are left or no edge of weight <= maxWeight remains
+    public ClusterResult executeClustering(int maxWeight, int clusters, boolean dendrogram) {
+        if (clusters < 1) {
+            throw new IllegalArgumentException("Cluster count must be at least 1.");
+        }
+
+        // Step 1: Only edges at or below the threshold can merge clusters
+        int[] heap = new int[this.edgeCount];
+        int size = 0;
+        for (int i = 0; i < this.edgeCount; i++) {
+            if (this.edgeWeights[i] <= maxWeight) {
+                heap[size++] = i;
+            }
+        }
+
+        // Step 2: Bottom-up heapify, O(E); edges are only ordered when they are popped
+        for (int i = size / 2 - 1; i >= 0; i--) {
+            siftDown(heap, i, size);
+        }
+
+        DisjointSetByRank disjointSet = new DisjointSetByRank(this.vertices);
+        Dendrogram tree = dendrogram ? new Dendrogram(this.vertices) : null;
+        int clusterCount = this.vertices;
+
+        // Step 3: Kruskal's loop, stopping at the requested number of clusters
+        while (size > 0 && clusterCount > clusters) {
+            int edge = heap[0];
+            heap[0] = heap[--size];
+            siftDown(heap, 0, size);
+
+            int sourceRoot = disjointSet.find(this.edgeSources[edge]);
+            int destinationRoot = disjointSet.find(this.edgeDestinations[edge]);
+            if (sourceRoot == destinationRoot) {
+                continue;
+            }
+
+            disjointSet.union(sourceRoot, destinationRoot);
+            clusterCount--;
+            if (tree != null) {
+                tree.merge(sourceRoot, destinationRoot, disjointSet.find(sourceRoot), this.edgeWeights[edge]);
+            }
+        }
+
+        // Step 4: Dense labels in order of each cluster's smallest vertex
+        int[] labels = new int[this.vertices];
+        int[] rootLabel = new int[this.vertices];
+        Arrays.fill(rootLabel, -1);
+        int next = 0;
+        for (int v = 0; v < this.vertices; v++) {
+            int root = disjointSet.find(v);
+            if (rootLabel[root] == -1) {
+                rootLabel[root] = next++;
+            }
+            labels[v] = rootLabel[root];
+        }
+
+        return new ClusterResult(clusterCount, labels, tree);
+    }
+
+    // Restores the min-heap property below index for edge indices ordered by weight
+    private void siftDown(int[] heap, int index, int size) {
+        int edge = heap[index];
+        while (true) {
+            int child = 2 * index + 1;
+            if (child >= size) {
+                break;
+            }
+            if (child + 1 < size && this.edgeWeights[heap[child + 1]] < this.edgeWeights[heap[child]]) {
+                child++;
+            }
+            if (this.edgeWeights[heap[child]] >= this.edgeWeights[edge]) {
+                break;
+            }
+            heap[index] = heap[child];
+            index = child;
+        }
+        heap[index] = edge;
+    }
+
     public static void main(String[] args) {
         MinimumSpanningTreeKruskals graph = new MinimumSpanningTreeKruskals(5, true);
         graph.addEdge(0, 1, 2);
@@ -106,6 +308,86 @@ public class MinimumSpanningTreeKruskals {
 
         // MST Weight : 16
         // MST Path : {0-1 : 2}, {1-2 : 3}, {1-4 : 5}, {0-3 : 6},
+
+        MSTResult result = graph.executeRadix();
+        System.out.println("\nMST Weight: " + result.weight);
+        System.out.print("MST Path: ");
+        for (int i = 0; i < result.sources.length; i++) {
+            System.out.print("{" + result.sources[i] + "-" + result.destinations[i] + " : " + result.weights[i] + "}, ");
+        }
+
+        // MST Weight : 16
+        // MST Path : {0-1 : 2}, {1-2 : 3}, {1-4 : 5}, {0-3 : 6},
+
+        // Keep only edges up to weight 5: {0, 1, 2, 4} and {3}
+        ClusterResult byThreshold = graph.executeClustering(5);
+        System.out.println("\nClusters: " + byThreshold.clusterCount + ", Labels: " + Arrays.toString(byThreshold.labels));
+
+        // Stop at two clusters and record the merges
+        ClusterResult byCount = graph.executeClustering(Integer.MAX_VALUE, 2, true);
+        System.out.println("Clusters: " + byCount.clusterCount + ", Labels: " + Arrays.toString(byCount.labels));
+        Dendrogram dendrogram = byCount.dendrogram;
+        for (int i = 0; i < dendrogram.size; i++) {
+            System.out.println("Merge " + (5 + i) + ": " + dendrogram.left[i] + " + " + dendrogram.right[i] + " at "
+                    + dendrogram.weights[i] + ", Size: " + dendrogram.sizes[i]);
+        }
+
+        // Clusters: 2, Labels: [0, 0, 0, 1, 0]
+        // Clusters: 2, Labels: [0, 0, 0, 1, 0]
+        // Merge 5: 0 + 1 at 2, Size: 2
+        // Merge 6: 5 + 2 at 3, Size: 3
+        // Merge 7: 6 + 4 at 5, Size: 4
+    }
+
+    static class ClusterResult {
+        int clusterCount;
+        int[] labels; // cluster of every vertex, 0 .. clusterCount - 1
+        Dendrogram dendrogram; // null unless requested
+
+        public ClusterResult(int clusterCount, int[] labels, Dendrogram dendrogram) {
+            this.clusterCount = clusterCount;
+            this.labels = labels;
+            this.dendrogram = dendrogram;
+        }
+    }
+
+    // Merge i joins clusters left[i] and right[i] into cluster (vertices + i); ids below vertices are single vertices
+    static class Dendrogram {
+        int[] left;
+        int[] right;
+        int[] weights; // weight of the edge that caused the merge, non-decreasing
+        int[] sizes; // vertices in the merged cluster
+        int size;
+        private int vertices;
+        private int[] clusterOf; // current dendrogram id of each disjoint-set root
+
+        public Dendrogram(int vertices) {
+            int capacity = Math.max(vertices - 1, 0);
+            this.left = new int[capacity];
+            this.right = new int[capacity];
+            this.weights = new int[capacity];
+            this.sizes = new int[capacity];
+            this.vertices = vertices;
+            this.clusterOf = new int[vertices];
+            for (int i = 0; i < vertices; i++) {
+                this.clusterOf[i] = i;
+            }
+        }
+
+        void merge(int xRoot, int yRoot, int newRoot, int weight) {
+            int x = this.clusterOf[xRoot];
+            int y = this.clusterOf[yRoot];
+            this.left[this.size] = x;
+            this.right[this.size] = y;
+            this.weights[this.size] = weight;
+            this.sizes[this.size] = getSize(x) + getSize(y);
+            this.clusterOf[newRoot] = this.vertices + this.size;
+            this.size++;
+        }
+
+        private int getSize(int cluster) {
+            return cluster < this.vertices ? 1 : this.sizes[cluster - this.vertices];
+        }
     }
 
     static class Edge implements Comparable<Edge> {
@@ -26,6 +26,16 @@ public class MinimumSpanningTreePrims {
      *      For each unvisited adjacent vertex, add its edge to the priority queue.
      * 5. Output:
      *      Print the total weight and edges of the Minimum Spanning Tree (MST).
+     *********************************************************************************************************************************
+     * Eager Prim (executeEager):
+     *      Time Complexity  : O((V + E) * log V)      Space Complexity: O(V) besides the graph, instead of O(E) queued edges
+     *      Keep one key per vertex outside the tree: the weight of its cheapest edge into the tree, and that edge's endpoint.
+     *      The keys live in an indexed min-heap, so a cheaper edge lowers the key in place (decrease-key) instead of queuing
+     *      another entry. Every unreached vertex starts a new tree, so a disconnected graph gives a spanning forest.
+     * Dense Prim (executeDense):
+     *      Time Complexity  : O(V²)                   Space Complexity: O(V) besides the weights
+     *      For complete or nearly complete graphs, where E ≈ V², skip the heap: scan the key array for the cheapest vertex,
+     *      then relax its V - 1 edges by asking the weight function (or matrix) directly. No edge list is ever built.
      *********************************************************************************************************************************/
 
     private int vertices;
@@ -94,6 +104,95 @@ public class MinimumSpanningTreePrims {
         }
     }
 
+    public MSTResult executeEager() {
+        int[] from = new int[this.vertices];
+        boolean[] inTree = new boolean[this.vertices];
+        IndexedMinHeap heap = new IndexedMinHeap(this.vertices);
+        ForestEdges forest = new ForestEdges(this.vertices);
+
+        for (int root = 0; root < this.vertices; root++) {
+            if (inTree[root]) {
+                continue;
+            }
+
+            // Start a new tree; the root enters it without an edge
+            from[root] = -1;
+            heap.insert(root, 0);
+
+            while (!heap.isEmpty()) {
+                int weight = heap.peekKey();
+                int current = heap.poll();
+                inTree[current] = true;
+                if (from[current] != -1) {
+                    forest.add(from[current], current, weight);
+                }
+
+                // Lower the key of every outside neighbour that is now closer to the tree
+                for (Edge edge : this.adj[current]) {
+                    int adjNode = edge.destination;
+                    if (inTree[adjNode]) {
+                        continue;
+                    }
+
+                    if (!heap.contains(adjNode)) {
+                        from[adjNode] = current;
+                        heap.insert(adjNode, edge.weight);
+                    } else if (edge.weight < heap.getKey(adjNode)) {
+                        from[adjNode] = current;
+                        heap.decreaseKey(adjNode, edge.weight);
+                    }
+                }
+            }
+        }
+
+        return forest.toResult();
+    }
+
+    // Weights of a complete graph given as a function, e.g. distances computed from point coordinates on demand
+    public static MSTResult executeDense(int vertices, WeightFunction weights) {
+        int[] key = new int[vertices];
+        int[] from = new int[vertices];
+        boolean[] inTree = new boolean[vertices];
+        ForestEdges forest = new ForestEdges(vertices);
+        Arrays.fill(key, Integer.MAX_VALUE);
+        Arrays.fill(from, -1);
+
+        for (int step = 0; step < vertices; step++) {
+            // Linear scan for the cheapest vertex outside the tree; no heap is needed when every vertex is updated anyway
+            int current = -1;
+            for (int v = 0; v < vertices; v++) {
+                if (!inTree[v] && (current == -1 || key[v] < key[current])) {
+                    current = v;
+                }
+            }
+
+            // A vertex with no edge into the tree starts a new tree of the forest
+            inTree[current] = true;
+            if (from[current] != -1) {
+                forest.add(from[current], current, key[current]);
+            }
+
+            for (int v = 0; v < vertices; v++) {
+                if (inTree[v]) {
+                    continue;
+                }
+
+                int weight = weights.weight(current, v);
+                if (weight < key[v]) {
+                    key[v] = weight;
+                    from[v] = current;
+                }
+            }
+        }
+
+        return forest.toResult();
+    }
+
+    // Symmetric weight matrix; Integer.MAX_VALUE marks a missing edge
+    public static MSTResult executeDense(int[][] matrix) {
+        return executeDense(matrix.length, (u, v) -> matrix[u][v]);
+    }
+
     public static void main(String[] args) {
         MinimumSpanningTreePrims graph = new MinimumSpanningTreePrims(5, true);
         graph.addEdge(0, 1, 2);
@@ -107,6 +206,149 @@ public class MinimumSpanningTreePrims {
 
         // MST Weight : 16
         // MST Path : {0-1 : 2}, {1-2 : 3}, {1-4 : 5}, {0-3 : 6},
+
+        MSTResult eager = graph.executeEager();
+        System.out.println("\nEager MST Weight: " + eager.weight);
+        System.out.println("Eager MST Path: " + eager);
+
+        // Eager MST Weight: 16
+        // Eager MST Path: {0-1 : 2}, {1-2 : 3}, {1-4 : 5}, {0-3 : 6},
+
+        // Complete graph over points on a line, weighted by their distance
+        int[] points = { 0, 7, 3, 12, 4 };
+        MSTResult dense = MinimumSpanningTreePrims.executeDense(points.length, (u, v) -> Math.abs(points[u] - points[v]));
+        System.out.println("Dense MST Weight: " + dense.weight);
+        System.out.println("Dense MST Path: " + dense);
+
+        // Dense MST Weight: 12
+        // Dense MST Path: {0-2 : 3}, {2-4 : 1}, {4-1 : 3}, {1-3 : 5},
+    }
+
+    interface WeightFunction {
+        int weight(int source, int destination);
+    }
+
+    // Tree edges in the order Prim's algorithm added them, at most V - 1 of them
+    static class ForestEdges {
+        private int[] sources;
+        private int[] destinations;
+        private int[] weights;
+        private long weight;
+        private int size;
+
+        public ForestEdges(int vertices) {
+            int capacity = Math.max(vertices - 1, 0);
+            this.sources = new int[capacity];
+            this.destinations = new int[capacity];
+            this.weights = new int[capacity];
+        }
+
+        void add(int source, int destination, int weight) {
+            this.sources[this.size] = source;
+            this.destinations[this.size] = destination;
+            this.weights[this.size] = weight;
+            this.weight += weight;
+            this.size++;
+        }
+
+        // A disconnected graph fills fewer than V - 1 slots, so the arrays are trimmed to the forest
+        MSTResult toResult() {
+            return new MSTResult(this.weight, Arrays.copyOf(this.sources, this.size), Arrays.copyOf(this.destinations, this.size),
+                    Arrays.copyOf(this.weights, this.size));
+        }
+    }
+
+    // Binary min-heap of vertices keyed by an int, with the heap slot of every vertex tracked for decrease-key
+    static class IndexedMinHeap {
+        private int[] heap; // vertices in heap order
+        private int[] position; // slot of each vertex in heap, -1 when absent
+        private int[] key;
+        private int size;
+
+        public IndexedMinHeap(int vertices) {
+            this.heap = new int[vertices];
+            this.position = new int[vertices];
+            this.key = new int[vertices];
+            Arrays.fill(this.position, -1);
+        }
+
+        public boolean isEmpty() {
+            return this.size == 0;
+        }
+
+        public boolean contains(int vertex) {
+            return this.position[vertex] != -1;
+        }
+
+        public int getKey(int vertex) {
+            return this.key[vertex];
+        }
+
+        public int peekKey() {
+            return this.key[this.heap[0]];
+        }
+
+        public void insert(int vertex, int key) {
+            this.key[vertex] = key;
+            this.heap[this.size] = vertex;
+            this.position[vertex] = this.size;
+            siftUp(this.size++);
+        }
+
+        public void decreaseKey(int vertex, int key) {
+            this.key[vertex] = key;
+            siftUp(this.position[vertex]);
+        }
+
+        public int poll() {
+            int top = this.heap[0];
+            this.position[top] = -1;
+
+            int last = this.heap[--this.size];
+            if (this.size > 0) {
+                this.heap[0] = last;
+                this.position[last] = 0;
+                siftDown(0);
+            }
+            return top;
+        }
+
+        private void siftUp(int index) {
+            int vertex = this.heap[index];
+            while (index > 0) {
+                int parent = (index - 1) >>> 1;
+                if (this.key[this.heap[parent]] <= this.key[vertex]) {
+                    break;
+                }
+                move(this.heap[parent], index);
+                index = parent;
+            }
+            move(vertex, index);
+        }
+
+        private void siftDown(int index) {
+            int vertex = this.heap[index];
+            while (true) {
+                int child = 2 * index + 1;
+                if (child >= this.size) {
+                    break;
+                }
+                if (child + 1 < this.size && this.key[this.heap[child + 1]] < this.key[this.heap[child]]) {
+                    child++;
+                }
+                if (this.key[this.heap[child]] >= this.key[vertex]) {
+                    break;
+                }
+                move(this.heap[child], index);
+                index = child;
+            }
+            move(vertex, index);
+        }
+
+        private void move(int vertex, int index) {
+            this.heap[index] = vertex;
+            this.position[vertex] = index;
+        }
     }
 
     static class Edge implements Comparable<Edge> {
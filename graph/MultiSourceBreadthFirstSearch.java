@@ -0,0 +1,210 @@
+package graph;
+
+import java.util.*;
+
+public class MultiSourceBreadthFirstSearch {
+
+    /*********************************************************************************************************************************
+     * Time Complexity      : O(ceil(S / 64) * (V + E)), where S is the number of sources.
+     * Space Complexity     : O(V + E) for the compact adjacency and three words per vertex, plus O(S * V) for the distances.
+     *********************************************************************************************************************************
+     * 1. Batching:
+     *      Split the sources into batches of 64. Within a batch, source i owns bit i of a long word, so one word per vertex
+     *      holds the state of all 64 traversals.
+     * 2. Shared Frontier Scan (per level):
+     *      visit[v] holds the sources whose frontier contains v. Scanning v's neighbors once forwards all of them:
+     *      visitNext[n] |= visit[v].
+     * 3. Discover:
+     *      For every vertex reached at this level, drop the sources that have already seen it (visitNext[v] & ~seen[v]).
+     *      Each remaining bit is a source discovering v at this level; record it and mark it seen.
+     * 4. Repeat until no source has a frontier left (or the hop limit is reached), then start the next batch.
+     *********************************************************************************************************************************/
+
+    private static final int BATCH_SIZE = 64;
+
+    private int vertices;
+    private boolean directed;
+    private List<Integer>[] adj;
+
+    @SuppressWarnings("unchecked")
+    public MultiSourceBreadthFirstSearch(int vertices, boolean directed) {
+        this.vertices = vertices;
+        this.directed = directed;
+        this.adj = new ArrayList[vertices];
+
+        // Initialize adjacency list for each vertex
+        for (int i = 0; i < vertices; i++) {
+            this.adj[i] = new ArrayList<>();
+        }
+    }
+
+    public void addEdge(int source, int destination) {
+        if (source >= this.vertices) {
+            throw new IllegalArgumentException("Source index is out of bounds.");
+        }
+        if (destination >= this.vertices) {
+            throw new IllegalArgumentException("Destination index is out of bounds.");
+        }
+
+        // A parallel edge only repeats a bitwise OR of the source masks, so addEdge skips the list scan
+        this.adj[source].add(destination);
+
+        // If the graph is undirected, add the reverse edge as well
+        if (!this.directed) {
+            this.adj[destination].add(source);
+        }
+    }
+
+    // distances[i][v] is the number of hops from sources[i] to v, -1 when v is unreachable from it
+    public int[][] execute(int[] sources) {
+        int[][] distances = new int[sources.length][this.vertices];
+        for (int[] row : distances) {
+            Arrays.fill(row, -1);
+        }
+
+        execute(sources, Integer.MAX_VALUE, (source, vertex, level) -> distances[source][vertex] = level);
+        return distances;
+    }
+
+    // neighbourhoods[i] lists every vertex within the given number of hops of sources[i], in order of distance
+    public int[][] executeKHop(int[] sources, int hops) {
+        if (hops < 0) {
+            throw new IllegalArgumentException("Hop count must not be negative.");
+        }
+
+        IntStack[] reached = new IntStack[sources.length];
+        for (int i = 0; i < sources.length; i++) {
+            reached[i] = new IntStack();
+        }
+
+        execute(sources, hops, (source, vertex, level) -> reached[source].push(vertex));
+
+        int[][] neighbourhoods = new int[sources.length][];
+        for (int i = 0; i < sources.length; i++) {
+            neighbourhoods[i] = reached[i].toArray();
+        }
+        return neighbourhoods;
+    }
+
+    private void execute(int[] sources, int maxLevel, DiscoveryListener listener) {
+        for (int source : sources) {
+            if (source < 0 || source >= this.vertices) {
+                throw new IllegalArgumentException("Source index is out of bounds.");
+            }
+        }
+
+        int[][] rows = GraphArrays.compress(this.adj);
+        int[] offsets = rows[0];
+        int[] targets = rows[1];
+
+        long[] seen = new long[this.vertices];
+        long[] visit = new long[this.vertices];
+        long[] visitNext = new long[this.vertices];
+
+        // Vertices with a non-zero visit / visitNext word, so a level only touches the vertices in some frontier
+        int[] frontier = new int[this.vertices];
+        int[] next = new int[this.vertices];
+
+        for (int batch = 0; batch < sources.length; batch += BATCH_SIZE) {
+            int batchEnd = Math.min(batch + BATCH_SIZE, sources.length);
+            int frontierSize = 0;
+
+            for (int i = batch; i < batchEnd; i++) {
+                int source = sources[i];
+                long bit = 1L << (i - batch);
+
+                if (visit[source] == 0) {
+                    frontier[frontierSize++] = source;
+                }
+                seen[source] |= bit;
+                visit[source] |= bit;
+                listener.onDiscover(i, source, 0);
+            }
+
+            for (int level = 1; level <= maxLevel && frontierSize > 0; level++) {
+                int nextSize = 0;
+
+                // One scan of each frontier vertex's neighbors serves every source that has it in its frontier
+                for (int f = 0; f < frontierSize; f++) {
+                    int current = frontier[f];
+                    long sourcesAtCurrent = visit[current];
+
+                    for (int j = offsets[current]; j < offsets[current + 1]; j++) {
+                        int adjNode = targets[j];
+                        long reaching = sourcesAtCurrent & ~seen[adjNode];
+
+                        if (reaching != 0) {
+                            if (visitNext[adjNode] == 0) {
+                                next[nextSize++] = adjNode;
+                            }
+                            visitNext[adjNode] |= reaching;
+                        }
+                    }
+
+                    visit[current] = 0;
+                }
+
+                // Record the new (source, vertex) pairs of this level
+                for (int n = 0; n < nextSize; n++) {
+                    int vertex = next[n];
+                    long discovered = visitNext[vertex] & ~seen[vertex];
+                    seen[vertex] |= discovered;
+
+                    for (long bits = discovered; bits != 0; bits &= bits - 1) {
+                        listener.onDiscover(batch + Long.numberOfTrailingZeros(bits), vertex, level);
+                    }
+                }
+
+                // The next frontier becomes the current one
+                for (int n = 0; n < nextSize; n++) {
+                    visit[next[n]] = visitNext[next[n]];
+                    visitNext[next[n]] = 0;
+                }
+
+                int[] swap = frontier;
+                frontier = next;
+                next = swap;
+                frontierSize = nextSize;
+            }
+
+            // Reset the words this batch left behind before the next one
+            for (int f = 0; f < frontierSize; f++) {
+                visit[frontier[f]] = 0;
+            }
+            Arrays.fill(seen, 0);
+        }
+    }
+
+    interface DiscoveryListener {
+        void onDiscover(int source, int vertex, int level);
+    }
+
+    public static void main(String[] args) {
+        MultiSourceBreadthFirstSearch graph = new MultiSourceBreadthFirstSearch(6, true);
+        graph.addEdge(0, 1);
+        graph.addEdge(0, 2);
+        graph.addEdge(1, 3);
+        graph.addEdge(1, 4);
+        graph.addEdge(2, 4);
+        graph.addEdge(3, 5);
+        graph.addEdge(4, 5);
+
+        int[] sources = { 0, 1, 2 };
+        int[][] distances = graph.execute(sources);
+        for (int i = 0; i < sources.length; i++) {
+            System.out.println("Distances from " + sources[i] + ": " + Arrays.toString(distances[i]));
+        }
+
+        int[][] neighbourhoods = graph.executeKHop(sources, 1);
+        for (int i = 0; i < sources.length; i++) {
+            System.out.println("1-hop of " + sources[i] + ": " + Arrays.toString(neighbourhoods[i]));
+        }
+
+        // Distances from 0: [0, 1, 1, 2, 2, 3]
+        // Distances from 1: [-1, 0, -1, 1, 1, 2]
+        // Distances from 2: [-1, -1, 0, -1, 1, 2]
+        // 1-hop of 0: [0, 1, 2]
+        // 1-hop of 1: [1, 3, 4]
+        // 1-hop of 2: [2, 4]
+    }
+}
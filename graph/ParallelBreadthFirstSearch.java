@@ -0,0 +1,189 @@
+package graph;
+
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+public class ParallelBreadthFirstSearch {
+
+    /*********************************************************************************************************************************
+     * Time Complexity      : O((V + E) / P + D * log P), where P is the number of workers and D the number of levels.
+     * Space Complexity     : O(V + E), for the compact adjacency, the parent array and the frontier buffers.
+     *********************************************************************************************************************************
+     * 1. Compact Adjacency:
+     *      Copy the adjacency lists into flat offset/target arrays so workers scan contiguous memory.
+     * 2. Level-Synchronous Expansion:
+     *      Split the current frontier into chunks and expand them as fork-join tasks.
+     *      A worker claims an unvisited neighbor with a compare-and-set on the parent array (-1 -> current vertex);
+     *      only the winning worker records the level and appends the vertex to its own buffer, so no vertex is added twice.
+     * 3. Lock-Free Merge:
+     *      Each chunk writes to a private buffer. A prefix sum over the buffer sizes gives every chunk its slot in the next
+     *      frontier, which is filled without any locks.
+     * 4. Repeat until the frontier is empty.
+     *********************************************************************************************************************************/
+
+    // Frontier vertices handled by one task; smaller frontiers are expanded without forking
+    private static final int CHUNK_SIZE = 1024;
+
+    private int vertices;
+    private boolean directed;
+    private List<Integer>[] adj;
+
+    @SuppressWarnings("unchecked")
+    public ParallelBreadthFirstSearch(int vertices, boolean directed) {
+        this.vertices = vertices;
+        this.directed = directed;
+        this.adj = new ArrayList[vertices];
+
+        // Initialize adjacency list for each vertex
+        for (int i = 0; i < vertices; i++) {
+            this.adj[i] = new ArrayList<>();
+        }
+    }
+
+    public void addEdge(int source, int destination) {
+        if (source >= this.vertices) {
+            throw new IllegalArgumentException("Source index is out of bounds.");
+        }
+        if (destination >= this.vertices) {
+            throw new IllegalArgumentException("Destination index is out of bounds.");
+        }
+
+        // A repeated neighbor simply loses the compare-and-set on its parent, so addEdge skips the list scan
+        this.adj[source].add(destination);
+
+        // If the graph is undirected, add the reverse edge as well
+        if (!this.directed) {
+            this.adj[destination].add(source);
+        }
+    }
+
+    public BFSResult execute(int source) {
+        return execute(source, ForkJoinPool.commonPool());
+    }
+
+    public BFSResult execute(int source, ForkJoinPool pool) {
+        if (source >= this.vertices) {
+            throw new IllegalArgumentException("Source index is out of bounds.");
+        }
+
+        int[][] rows = GraphArrays.compress(this.adj);
+        int[] offsets = rows[0];
+        int[] targets = rows[1];
+
+        int[] levels = new int[this.vertices];
+        AtomicIntegerArray parents = new AtomicIntegerArray(this.vertices);
+        Arrays.fill(levels, -1);
+        for (int i = 0; i < this.vertices; i++) {
+            parents.set(i, -1);
+        }
+
+        // The source is its own parent while searching so nobody claims it
+        levels[source] = 0;
+        parents.set(source, source);
+
+        int[] frontier = { source };
+        for (int level = 1; frontier.length > 0; level++) {
+            int chunks = (frontier.length + CHUNK_SIZE - 1) / CHUNK_SIZE;
+            int[][] buffers = new int[chunks][];
+            int[] counts = new int[chunks];
+
+            pool.invoke(new ExpandTask(frontier, 0, chunks, level, offsets, targets, levels, parents, buffers, counts));
+
+            frontier = GraphArrays.concat(buffers, counts);
+        }
+
+        int[] result = new int[this.vertices];
+        for (int i = 0; i < this.vertices; i++) {
+            result[i] = parents.get(i);
+        }
+        result[source] = -1;
+
+        return new BFSResult(levels, result);
+    }
+
+    static class ExpandTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        int[] frontier;
+        int fromChunk;
+        int toChunk;
+        int level;
+        int[] offsets;
+        int[] targets;
+        int[] levels;
+        AtomicIntegerArray parents;
+        int[][] buffers;
+        int[] counts;
+
+        public ExpandTask(int[] frontier, int fromChunk, int toChunk, int level, int[] offsets, int[] targets, int[] levels,
+                AtomicIntegerArray parents, int[][] buffers, int[] counts) {
+            this.frontier = frontier;
+            this.fromChunk = fromChunk;
+            this.toChunk = toChunk;
+            this.level = level;
+            this.offsets = offsets;
+            this.targets = targets;
+            this.levels = levels;
+            this.parents = parents;
+            this.buffers = buffers;
+            this.counts = counts;
+        }
+
+        @Override
+        protected void compute() {
+            // Split the chunk range until a single chunk is left
+            if (this.toChunk - this.fromChunk > 1) {
+                int middle = (this.fromChunk + this.toChunk) >>> 1;
+                invokeAll(new ExpandTask(this.frontier, this.fromChunk, middle, this.level, this.offsets, this.targets,
+                        this.levels, this.parents, this.buffers, this.counts),
+                        new ExpandTask(this.frontier, middle, this.toChunk, this.level, this.offsets, this.targets,
+                                this.levels, this.parents, this.buffers, this.counts));
+                return;
+            }
+
+            int start = this.fromChunk * CHUNK_SIZE;
+            int end = Math.min(start + CHUNK_SIZE, this.frontier.length);
+            int[] buffer = new int[16];
+            int count = 0;
+
+            for (int i = start; i < end; i++) {
+                int current = this.frontier[i];
+                for (int j = this.offsets[current]; j < this.offsets[current + 1]; j++) {
+                    int adjNode = this.targets[j];
+
+                    // Read first so the common already-visited case skips the atomic write
+                    if (this.parents.get(adjNode) == -1 && this.parents.compareAndSet(adjNode, -1, current)) {
+                        this.levels[adjNode] = this.level;
+                        if (count == buffer.length) {
+                            buffer = Arrays.copyOf(buffer, count * 2);
+                        }
+                        buffer[count++] = adjNode;
+                    }
+                }
+            }
+
+            this.buffers[this.fromChunk] = buffer;
+            this.counts[this.fromChunk] = count;
+        }
+    }
+
+    public static void main(String[] args) {
+        ParallelBreadthFirstSearch graph = new ParallelBreadthFirstSearch(6, true);
+        graph.addEdge(0, 1);
+        graph.addEdge(0, 2);
+        graph.addEdge(1, 3);
+        graph.addEdge(1, 4);
+        graph.addEdge(2, 4);
+        graph.addEdge(3, 5);
+        graph.addEdge(4, 5);
+
+        BFSResult result = graph.execute(0);
+        System.out.println("Levels: " + Arrays.toString(result.levels));
+        System.out.println("Parents: " + Arrays.toString(result.parents));
+
+        // Levels: [0, 1, 1, 2, 2, 3]
+        // Parents: [-1, 0, 0, 1, 1, 3]
+    }
+}
@@ -0,0 +1,191 @@
+package graph;
+
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+public class ParallelConnectedComponents {
+
+    /*********************************************************************************************************************************
+     * Time Complexity      : O((V + E) α(V) / P) expected with P workers; the final pass skips most edges of the largest component.
+     * Space Complexity     : O(V + E), for the edge list, the symmetric compact adjacency and the parent array.
+     *********************************************************************************************************************************
+     * Afforest connected components on an undirected graph, built on DisjointSetConcurrent (lock-free union-find).
+     * 1. Compact Adjacency:
+     *      Store every edge in both directions in flat offset/target arrays, split into partitions of roughly equal edge counts.
+     * 2. Neighbor Sampling:
+     *      For the first few rounds, union every vertex with only its r-th neighbor, in parallel over the partitions.
+     *      These few edges already join most of the large component. Compress the trees afterwards.
+     * 3. Find the Largest Component:
+     *      Sample random vertices and take the most frequent root; with high probability it is the giant component.
+     * 4. Final Hooking:
+     *      Union the remaining neighbors of every vertex, skipping vertices already in the sampled component. Every edge is
+     *      stored in both directions, so an edge leaving that component is still hooked from its other endpoint.
+     * 5. Label:
+     *      Compress every vertex to its root. A root is the smallest vertex of its component, so labels are deterministic.
+     *********************************************************************************************************************************/
+
+    // Neighbor rounds before the largest component is sampled
+    private static final int NEIGHBOR_ROUNDS = 2;
+    // Vertices sampled to find the largest component
+    private static final int SAMPLE_SIZE = 1024;
+    // Partitions per worker, so faster workers can pick up more partitions
+    private static final int PARTITIONS_PER_WORKER = 4;
+
+    private int vertices;
+    private int[] edgeSources;
+    private int[] edgeDestinations;
+    private int edgeCount;
+
+    public ParallelConnectedComponents(int vertices) {
+        this.vertices = vertices;
+        this.edgeSources = new int[16];
+        this.edgeDestinations = new int[16];
+    }
+
+    public void addEdge(int source, int destination) {
+        if (source >= this.vertices) {
+            throw new IllegalArgumentException("Source index is out of bounds.");
+        }
+        if (destination >= this.vertices) {
+            throw new IllegalArgumentException("Destination index is out of bounds.");
+        }
+
+        // Edges are kept as two flat arrays rather than per-vertex lists; duplicates do not change the components
+        if (this.edgeCount == this.edgeSources.length) {
+            this.edgeSources = Arrays.copyOf(this.edgeSources, this.edgeCount * 2);
+            this.edgeDestinations = Arrays.copyOf(this.edgeDestinations, this.edgeCount * 2);
+        }
+        this.edgeSources[this.edgeCount] = source;
+        this.edgeDestinations[this.edgeCount] = destination;
+        this.edgeCount++;
+    }
+
+    public int[] execute() {
+        return execute(ForkJoinPool.commonPool());
+    }
+
+    // componentId[v] is the smallest vertex of v's component
+    public int[] execute(ForkJoinPool pool) {
+        int[][] rows = GraphArrays.compressUndirected(this.vertices, this.edgeSources, this.edgeDestinations, this.edgeCount);
+        int[] offsets = rows[0];
+        int[] targets = rows[1];
+        int[] partitions = getPartitions(offsets, pool.getParallelism() * PARTITIONS_PER_WORKER);
+
+        DisjointSetConcurrent disjointSet = new DisjointSetConcurrent(this.vertices);
+
+        // Step 2: Link every vertex with its r-th neighbor only
+        for (int round = 0; round < NEIGHBOR_ROUNDS; round++) {
+            int r = round;
+            forEachPartition(pool, partitions, (from, to) -> {
+                for (int u = from; u < to; u++) {
+                    if (offsets[u] + r < offsets[u + 1]) {
+                        disjointSet.union(u, targets[offsets[u] + r]);
+                    }
+                }
+            });
+            forEachPartition(pool, partitions, (from, to) -> {
+                for (int u = from; u < to; u++) {
+                    disjointSet.compress(u);
+                }
+            });
+        }
+
+        // Step 3: The most frequent root among the sampled vertices
+        int largest = getMostFrequentRoot(disjointSet);
+
+        // Step 4: Hook the remaining neighbors of every vertex outside the sampled component
+        forEachPartition(pool, partitions, (from, to) -> {
+            for (int u = from; u < to; u++) {
+                if (disjointSet.find(u) == largest) {
+                    continue;
+                }
+                for (int j = offsets[u] + NEIGHBOR_ROUNDS; j < offsets[u + 1]; j++) {
+                    disjointSet.union(u, targets[j]);
+                }
+            }
+        });
+
+        // Step 5: Label every vertex with its root
+        int[] componentId = new int[this.vertices];
+        forEachPartition(pool, partitions, (from, to) -> {
+            for (int u = from; u < to; u++) {
+                componentId[u] = disjointSet.compress(u);
+            }
+        });
+
+        return componentId;
+    }
+
+    private int getMostFrequentRoot(DisjointSetConcurrent disjointSet) {
+        if (this.vertices == 0) {
+            return -1;
+        }
+
+        Map<Integer, Integer> counts = new HashMap<>();
+        Random random = new Random(this.vertices);
+        int best = -1;
+        int bestCount = 0;
+
+        for (int i = 0; i < SAMPLE_SIZE; i++) {
+            int root = disjointSet.find(random.nextInt(this.vertices));
+            int count = counts.merge(root, 1, Integer::sum);
+            if (count > bestCount) {
+                best = root;
+                bestCount = count;
+            }
+        }
+
+        return best;
+    }
+
+    // Runs the body over every vertex range [partitions[i], partitions[i + 1]) inside the given pool
+    private void forEachPartition(ForkJoinPool pool, int[] partitions, PartitionBody body) {
+        pool.submit(() -> IntStream.range(0, partitions.length - 1).parallel()
+                .forEach(i -> body.run(partitions[i], partitions[i + 1]))).join();
+    }
+
+    // Splits the vertices into ranges holding roughly the same number of adjacency entries
+    private int[] getPartitions(int[] offsets, int count) {
+        int[] partitions = new int[count + 1];
+        long total = offsets[this.vertices];
+
+        for (int i = 1; i < count; i++) {
+            // First vertex whose adjacency starts at or after the i-th share of the edges
+            int target = (int) (total * i / count);
+            int index = Arrays.binarySearch(offsets, 0, this.vertices + 1, target);
+            if (index < 0) {
+                index = -index - 1;
+            }
+
+            // Equal offsets (vertices without edges) can make the search land in the middle of a run
+            while (index > 0 && offsets[index - 1] == target) {
+                index--;
+            }
+            partitions[i] = Math.max(partitions[i - 1], Math.min(index, this.vertices));
+        }
+        partitions[count] = this.vertices;
+
+        return partitions;
+    }
+
+    interface PartitionBody {
+        void run(int from, int to);
+    }
+
+    public static void main(String[] args) {
+        ParallelConnectedComponents graph = new ParallelConnectedComponents(9);
+        graph.addEdge(0, 1);
+        graph.addEdge(1, 2);
+        graph.addEdge(2, 0);
+        graph.addEdge(3, 4);
+        graph.addEdge(5, 6);
+        graph.addEdge(6, 7);
+        graph.addEdge(7, 3);
+
+        int[] componentId = graph.execute();
+        System.out.println("Component IDs: " + Arrays.toString(componentId));
+
+        // Component IDs: [0, 0, 0, 3, 3, 3, 3, 3, 8]
+    }
+}
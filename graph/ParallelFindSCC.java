@@ -0,0 +1,470 @@
+package graph;
+
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.stream.IntStream;
+
+public class ParallelFindSCC {
+
+    /*********************************************************************************************************************************
+     * Time Complexity  : O((V + E) / P) per trimming round, forward-backward search and coloring round with P workers,
+     *                    O(V + E) for the sequential finish.
+     * Space Complexity : O(V + E) - Forward and Reverse Compact Adjacency: O(V + E), per-vertex state: O(V)
+     *********************************************************************************************************************************
+     * Multistep SCC decomposition: cheap parallel steps remove the bulk of the vertices, a sequential pass finishes the rest.
+     * 1. Trim:
+     *      A vertex with no incoming or no outgoing edge among the unsettled vertices is an SCC on its own. Settle all of
+     *      them in parallel, then lower the degrees of their neighbors; any neighbor whose degree drops to zero is trimmed in
+     *      the next round. This removes the millions of singleton components before any reachability search.
+     * 2. Forward-Backward (FW-BW):
+     *      Pick a pivot of high in-degree x out-degree. Find the vertices it reaches (FW) and the vertices that reach it (BW)
+     *      with level-synchronous parallel BFS over the unsettled vertices. FW ∩ BW is the pivot's SCC, almost always the
+     *      giant one. Trim again afterwards.
+     * 3. Coloring:
+     *      Give every vertex its own index as color and propagate the maximum color along edges until nothing changes.
+     *      A vertex whose color is still its own index is the root of a color class, and its SCC is exactly the vertices of
+     *      that class that reach it, found by a backward search inside the class. The classes are disjoint, so all roots are
+     *      searched in parallel. Repeat (with trimming) while a round still settles a reasonable share of the vertices.
+     * 4. Sequential Finish:
+     *      At most SEQUENTIAL_THRESHOLD vertices (or a remainder on which coloring stalls) are finished by a Tarjan/Pearce
+     *      pass restricted to the unsettled vertices.
+     * Repeating FW-BW on what is left instead of coloring would split off one small SCC per step on a remainder of many
+     * small SCCs, so it is only used for the giant component.
+     * Component numbers are dense (0 .. componentCount - 1) but, unlike TarjansFindSCC, not in topological order.
+     *********************************************************************************************************************************/
+
+    // Frontier vertices handled by one task; smaller frontiers are expanded without forking
+    private static final int CHUNK_SIZE = 1024;
+    // Partitions at most this size are solved sequentially
+    private static final int SEQUENTIAL_THRESHOLD = 4096;
+
+    // A coloring round must settle at least 1 / MIN_PROGRESS of the remaining vertices, otherwise the rest is sequential
+    private static final int MIN_PROGRESS = 64;
+
+    // Per-vertex reach flags
+    private static final int FORWARD = 1;
+    private static final int BACKWARD = 2;
+    private static final int TRIMMED = 4;
+
+    private int vertices;
+    private boolean directed;
+    private List<Integer>[] adj;
+
+    @SuppressWarnings("unchecked")
+    public ParallelFindSCC(int vertices, boolean directed) {
+        this.vertices = vertices;
+        this.directed = directed;
+        this.adj = new ArrayList[vertices];
+
+        // Initialize adjacency lists for all vertices
+        for (int i = 0; i < vertices; i++) {
+            this.adj[i] = new ArrayList<>();
+        }
+    }
+
+    public void addEdge(int source, int destination) {
+        if (source >= this.vertices) {
+            throw new IllegalArgumentException("Source index is out of bounds.");
+        }
+        if (destination >= this.vertices) {
+            throw new IllegalArgumentException("Destination index is out of bounds.");
+        }
+
+        // Reachability is the same with or without parallel edges; checking for them would make addEdge O(degree)
+        this.adj[source].add(destination);
+
+        // If the graph is undirected, add the reverse edge
+        if (!this.directed) {
+            this.adj[destination].add(source);
+        }
+    }
+
+    public SCCResult execute() {
+        return execute(ForkJoinPool.commonPool());
+    }
+
+    public SCCResult execute(ForkJoinPool pool) {
+        Decomposition decomposition = new Decomposition();
+        pool.submit(decomposition::run).join();
+
+        return decomposition.getResult();
+    }
+
+    // State of one execute call
+    class Decomposition {
+        int[] offsets;
+        int[] targets;
+        int[] reverseOffsets;
+        int[] reverseTargets;
+
+        int[] componentId;
+        boolean[] settled; // the vertex's component is known
+        AtomicIntegerArray reach; // FORWARD / BACKWARD / TRIMMED flags, 0 on unsettled vertices between steps
+        AtomicIntegerArray inDegree; // degrees among unsettled vertices while trimming
+        AtomicIntegerArray outDegree;
+        AtomicIntegerArray color;
+        AtomicInteger nextComponent = new AtomicInteger();
+
+        // Sequential Tarjan/Pearce state
+        int[] rindex;
+        boolean[] root;
+
+        Decomposition() {
+            int[][] rows = GraphArrays.compress(ParallelFindSCC.this.adj);
+            this.offsets = rows[0];
+            this.targets = rows[1];
+            rows = GraphArrays.compressReversed(ParallelFindSCC.this.adj);
+            this.reverseOffsets = rows[0];
+            this.reverseTargets = rows[1];
+
+            this.componentId = new int[vertices];
+            this.settled = new boolean[vertices];
+            this.reach = new AtomicIntegerArray(vertices);
+            this.inDegree = new AtomicIntegerArray(vertices);
+            this.outDegree = new AtomicIntegerArray(vertices);
+            this.color = new AtomicIntegerArray(vertices);
+            this.rindex = new int[vertices];
+            this.root = new boolean[vertices];
+        }
+
+        void run() {
+            int[] remaining = trim(IntStream.range(0, vertices).toArray());
+
+            if (remaining.length > SEQUENTIAL_THRESHOLD) {
+                remaining = trim(removePivotComponent(remaining));
+            }
+
+            while (remaining.length > SEQUENTIAL_THRESHOLD) {
+                int[] left = removeColorComponents(remaining);
+                boolean stalled = remaining.length - left.length < remaining.length / MIN_PROGRESS;
+
+                remaining = trim(left);
+                if (stalled) {
+                    break;
+                }
+            }
+
+            if (remaining.length > 0) {
+                solveSequentially(remaining);
+            }
+        }
+
+        // Step 1: Peel off vertices without incoming or outgoing edges until none are left
+        int[] trim(int[] members) {
+            IntStream.range(0, members.length).parallel().forEach(i -> {
+                int v = members[i];
+                this.inDegree.set(v, countUnsettled(v, this.reverseOffsets, this.reverseTargets));
+                this.outDegree.set(v, countUnsettled(v, this.offsets, this.targets));
+            });
+
+            int[] work = Arrays.stream(members).parallel()
+                    .filter(v -> this.inDegree.get(v) == 0 || this.outDegree.get(v) == 0).toArray();
+
+            while (work.length > 0) {
+                work = expand(work, (v, next) -> {
+                    // A vertex can be queued twice (in- and out-degree both reaching zero); only one claim succeeds
+                    if (!this.reach.compareAndSet(v, 0, TRIMMED)) {
+                        return;
+                    }
+                    this.componentId[v] = this.nextComponent.getAndIncrement();
+
+                    for (int j = this.offsets[v]; j < this.offsets[v + 1]; j++) {
+                        int w = this.targets[j];
+                        if (!this.settled[w] && this.inDegree.decrementAndGet(w) == 0) {
+                            next.push(w);
+                        }
+                    }
+                    for (int j = this.reverseOffsets[v]; j < this.reverseOffsets[v + 1]; j++) {
+                        int w = this.reverseTargets[j];
+                        if (!this.settled[w] && this.outDegree.decrementAndGet(w) == 0) {
+                            next.push(w);
+                        }
+                    }
+                });
+            }
+
+            // Trimmed vertices are settled only now, so the degree updates above all saw the same set of vertices
+            return settle(members, TRIMMED);
+        }
+
+        int countUnsettled(int v, int[] edgeOffsets, int[] edgeTargets) {
+            int count = 0;
+            for (int j = edgeOffsets[v]; j < edgeOffsets[v + 1]; j++) {
+                if (!this.settled[edgeTargets[j]]) {
+                    count++;
+                }
+            }
+            return count;
+        }
+
+        // Marks the members whose reach state equals the given one as settled and returns the others, reset for the next step
+        int[] settle(int[] members, int state) {
+            IntStream.range(0, members.length).parallel().forEach(i -> {
+                int v = members[i];
+                if (this.reach.get(v) == state) {
+                    this.settled[v] = true;
+                } else {
+                    this.reach.set(v, 0);
+                }
+            });
+
+            return Arrays.stream(members).parallel().filter(v -> !this.settled[v]).toArray();
+        }
+
+        // Step 2: FW ∩ BW of a high-degree pivot is one SCC
+        int[] removePivotComponent(int[] members) {
+            // A pivot with many edges both ways is likely inside the largest SCC
+            int pivot = members[0];
+            long bestScore = -1;
+            for (int v : members) {
+                long score = (long) (this.offsets[v + 1] - this.offsets[v]) * (this.reverseOffsets[v + 1] - this.reverseOffsets[v]);
+                if (score > bestScore) {
+                    bestScore = score;
+                    pivot = v;
+                }
+            }
+
+            search(pivot, FORWARD, this.offsets, this.targets);
+            search(pivot, BACKWARD, this.reverseOffsets, this.reverseTargets);
+
+            int component = this.nextComponent.getAndIncrement();
+            Arrays.stream(members).parallel().filter(v -> this.reach.get(v) == (FORWARD | BACKWARD))
+                    .forEach(v -> this.componentId[v] = component);
+
+            return settle(members, FORWARD | BACKWARD);
+        }
+
+        // Marks every unsettled vertex reachable from the pivot along the given edges
+        void search(int pivot, int flag, int[] edgeOffsets, int[] edgeTargets) {
+            mark(pivot, flag);
+
+            int[] frontier = { pivot };
+            while (frontier.length > 0) {
+                frontier = expand(frontier, (v, next) -> {
+                    for (int j = edgeOffsets[v]; j < edgeOffsets[v + 1]; j++) {
+                        int w = edgeTargets[j];
+                        if (!this.settled[w] && mark(w, flag)) {
+                            next.push(w);
+                        }
+                    }
+                });
+            }
+        }
+
+        // Step 3: Settle the SCC of every color root
+        int[] removeColorComponents(int[] members) {
+            IntStream.range(0, members.length).parallel().forEach(i -> this.color.set(members[i], members[i]));
+
+            // Propagate the maximum color forward until no vertex changes
+            int[] frontier = members;
+            while (frontier.length > 0) {
+                frontier = expand(frontier, (v, next) -> {
+                    int vertexColor = this.color.get(v);
+                    for (int j = this.offsets[v]; j < this.offsets[v + 1]; j++) {
+                        int w = this.targets[j];
+                        if (!this.settled[w] && raise(w, vertexColor)) {
+                            next.push(w);
+                        }
+                    }
+                });
+            }
+
+            // Each root's SCC: the vertices of its color that reach it, searched backward inside the color class
+            Arrays.stream(members).parallel().filter(v -> this.color.get(v) == v).forEach(rootVertex -> {
+                int component = this.nextComponent.getAndIncrement();
+                IntStack stack = new IntStack();
+
+                this.reach.set(rootVertex, BACKWARD);
+                this.componentId[rootVertex] = component;
+                stack.push(rootVertex);
+
+                while (!stack.isEmpty()) {
+                    int v = stack.pop();
+                    for (int j = this.reverseOffsets[v]; j < this.reverseOffsets[v + 1]; j++) {
+                        int w = this.reverseTargets[j];
+                        if (!this.settled[w] && this.color.get(w) == rootVertex && this.reach.get(w) != BACKWARD) {
+                            this.reach.set(w, BACKWARD);
+                            this.componentId[w] = component;
+                            stack.push(w);
+                        }
+                    }
+                }
+            });
+
+            return settle(members, BACKWARD);
+        }
+
+        // Raises the vertex's color to at least the given one; true if this call changed it
+        boolean raise(int vertex, int newColor) {
+            while (true) {
+                int current = this.color.get(vertex);
+                if (current >= newColor) {
+                    return false;
+                }
+                if (this.color.compareAndSet(vertex, current, newColor)) {
+                    return true;
+                }
+            }
+        }
+
+        // Sets the flag on the vertex; only the worker that sets it first gets true
+        boolean mark(int vertex, int flag) {
+            while (true) {
+                int state = this.reach.get(vertex);
+                if ((state & flag) != 0) {
+                    return false;
+                }
+                if (this.reach.compareAndSet(vertex, state, state | flag)) {
+                    return true;
+                }
+            }
+        }
+
+        // Runs the body over every frontier vertex, in parallel chunks, and concatenates what the chunks push
+        int[] expand(int[] frontier, FrontierBody body) {
+            if (frontier.length <= CHUNK_SIZE) {
+                IntStack next = new IntStack();
+                for (int v : frontier) {
+                    body.visit(v, next);
+                }
+                return next.toArray();
+            }
+
+            int chunks = (frontier.length + CHUNK_SIZE - 1) / CHUNK_SIZE;
+            int[][] buffers = new int[chunks][];
+            IntStream.range(0, chunks).parallel().forEach(c -> {
+                IntStack next = new IntStack();
+                for (int i = c * CHUNK_SIZE; i < Math.min((c + 1) * CHUNK_SIZE, frontier.length); i++) {
+                    body.visit(frontier[i], next);
+                }
+                buffers[c] = next.toArray();
+            });
+
+            return GraphArrays.concat(buffers);
+        }
+
+        // Step 4: Pearce's algorithm (see TarjansFindSCC) over the unsettled vertices only
+        void solveSequentially(int[] members) {
+            int size = members.length;
+            int index = 1;
+            int component = size - 1;
+
+            IntStack stack = new IntStack();
+            int[] callStack = new int[size];
+            int[] nextEdge = new int[size];
+
+            for (int start : members) {
+                if (this.rindex[start] != 0) {
+                    continue;
+                }
+
+                int depth = 0;
+                callStack[0] = start;
+                nextEdge[0] = this.offsets[start];
+                this.rindex[start] = index++;
+                this.root[start] = true;
+
+                while (depth >= 0) {
+                    int v = callStack[depth];
+
+                    if (nextEdge[depth] < this.offsets[v + 1]) {
+                        int w = this.targets[nextEdge[depth]];
+
+                        // Settled vertices belong to components that are already known
+                        if (this.settled[w]) {
+                            nextEdge[depth]++;
+                            continue;
+                        }
+
+                        if (this.rindex[w] == 0) {
+                            depth++;
+                            callStack[depth] = w;
+                            nextEdge[depth] = this.offsets[w];
+                            this.rindex[w] = index++;
+                            this.root[w] = true;
+                            continue;
+                        }
+
+                        nextEdge[depth]++;
+                        if (this.rindex[w] < this.rindex[v]) {
+                            this.rindex[v] = this.rindex[w];
+                            this.root[v] = false;
+                        }
+                        continue;
+                    }
+
+                    if (this.root[v]) {
+                        index--;
+                        while (!stack.isEmpty() && this.rindex[v] <= this.rindex[stack.peek()]) {
+                            this.rindex[stack.pop()] = component;
+                            index--;
+                        }
+                        this.rindex[v] = component;
+                        component--;
+                    } else {
+                        stack.push(v);
+                    }
+
+                    depth--;
+                    if (depth >= 0) {
+                        int parent = callStack[depth];
+                        nextEdge[depth]++;
+                        if (this.rindex[v] < this.rindex[parent]) {
+                            this.rindex[parent] = this.rindex[v];
+                            this.root[parent] = false;
+                        }
+                    }
+                }
+            }
+
+            // Reserve a block of component numbers for these components
+            int base = this.nextComponent.getAndAdd(size - 1 - component);
+            for (int v : members) {
+                this.componentId[v] = base + (size - 1 - this.rindex[v]);
+                this.settled[v] = true;
+            }
+        }
+
+        SCCResult getResult() {
+            return new SCCResult(this.nextComponent.get(), this.componentId);
+        }
+    }
+
+    interface FrontierBody {
+        void visit(int vertex, IntStack next);
+    }
+
+    public static void main(String[] args) {
+        // Create a directed graph with 8 vertices: two cycles joined by an edge, plus a dangling path
+        ParallelFindSCC graph = new ParallelFindSCC(8, true);
+        graph.addEdge(0, 2);
+        graph.addEdge(2, 1);
+        graph.addEdge(1, 0);
+        graph.addEdge(1, 3);
+        graph.addEdge(3, 4);
+        graph.addEdge(4, 5);
+        graph.addEdge(5, 3);
+        graph.addEdge(5, 6);
+        graph.addEdge(6, 7);
+
+        SCCResult result = graph.execute();
+
+        // Component numbers depend on scheduling, so print each component at its smallest vertex
+        System.out.println("Strongly Connected Components:");
+        for (int v = 0; v < 8; v++) {
+            int component = result.componentId[v];
+            if (result.members[result.offsets[component]] == v) {
+                System.out.println(Arrays.toString(result.getComponent(component)));
+            }
+        }
+
+        // Expected Output:
+        // Strongly Connected Components:
+        // [0, 1, 2]
+        // [3, 4, 5]
+        // [6]
+        // [7]
+    }
+}
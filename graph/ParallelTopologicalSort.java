@@ -0,0 +1,157 @@
+package graph;
+
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.stream.IntStream;
+
+public class ParallelTopologicalSort {
+
+    /*********************************************************************************************************************************
+     * Time Complexity      : O((V + E) / P + L * log P), where P is the number of workers and L the number of levels.
+     * Space Complexity     : O(V + E), for the compact adjacency, the in-degree countdowns, the order and the levels.
+     *********************************************************************************************************************************
+     * Kahn's algorithm processed wave by wave, iterative throughout, so deep DAGs cannot overflow the stack.
+     * 1. Compact Adjacency:
+     *      Copy the adjacency lists into flat offset/target arrays so workers scan contiguous memory.
+     * 2. Parallel In-Degrees:
+     *      Every worker scans a range of vertices and increments the in-degree of each target atomically.
+     *      All vertices with in-degree 0 form wave 0.
+     * 3. Waves:
+     *      Split the current wave into chunks processed as parallel tasks. Each edge decrements its target's in-degree
+     *      atomically; the worker that brings it to 0 owns the target, gives it level = wave + 1 and appends it to its own
+     *      buffer. A prefix sum over the buffer sizes places every chunk in the next wave without locks.
+     * 4. Order:
+     *      The waves, one after another, are a topological order (the order inside a wave depends on scheduling).
+     *      levels[v] is the length of the longest path ending at v, so vertices of one level can always run in parallel.
+     *      If fewer than V vertices were ordered, the rest lie on or behind a cycle.
+     *********************************************************************************************************************************/
+
+    // Wave vertices handled by one task; smaller waves are processed without forking
+    private static final int CHUNK_SIZE = 1024;
+
+    private int vertices;
+    private List<Integer>[] adj;
+
+    @SuppressWarnings("unchecked")
+    public ParallelTopologicalSort(int vertices) {
+        this.vertices = vertices;
+        this.adj = new ArrayList[vertices];
+
+        // Initialize each vertex's adjacency list
+        for (int i = 0; i < vertices; i++) {
+            this.adj[i] = new ArrayList<>();
+        }
+    }
+
+    public void addEdge(int source, int destination) {
+        if (source >= this.vertices) {
+            throw new IllegalArgumentException("Source index is out of bounds.");
+        }
+        if (destination >= this.vertices) {
+            throw new IllegalArgumentException("Destination index is out of bounds.");
+        }
+
+        // A parallel edge adds to the in-degree and is released once per copy, so the count still reaches zero
+        this.adj[source].add(destination);
+    }
+
+    public TopologicalOrder execute() {
+        return execute(ForkJoinPool.commonPool());
+    }
+
+    public TopologicalOrder execute(ForkJoinPool pool) {
+        int[][] rows = GraphArrays.compress(this.adj);
+        int[] offsets = rows[0];
+        int[] targets = rows[1];
+
+        int[] order = new int[this.vertices];
+        int[] levels = new int[this.vertices];
+        AtomicIntegerArray inDegree = new AtomicIntegerArray(this.vertices);
+
+        // Step 2: In-degrees and the first wave
+        int[] wave = pool.submit(() -> {
+            IntStream.range(0, this.vertices).parallel().forEach(v -> {
+                for (int j = offsets[v]; j < offsets[v + 1]; j++) {
+                    inDegree.incrementAndGet(targets[j]);
+                }
+            });
+            return IntStream.range(0, this.vertices).parallel().filter(v -> inDegree.get(v) == 0).toArray();
+        }).join();
+
+        // Step 3: Release wave after wave
+        int ordered = 0;
+        for (int level = 0; wave.length > 0; level++) {
+            System.arraycopy(wave, 0, order, ordered, wave.length);
+            ordered += wave.length;
+
+            int[] current = wave;
+            int nextLevel = level + 1;
+            wave = current.length <= CHUNK_SIZE ? release(current, 0, current.length, nextLevel, offsets, targets, inDegree, levels)
+                    : pool.submit(() -> releaseInParallel(current, nextLevel, offsets, targets, inDegree, levels)).join();
+        }
+
+        if (ordered < this.vertices) {
+            throw new IllegalArgumentException("There is a cycle in the graph.");
+        }
+
+        return new TopologicalOrder(order, levels);
+    }
+
+    private int[] releaseInParallel(int[] wave, int nextLevel, int[] offsets, int[] targets, AtomicIntegerArray inDegree,
+            int[] levels) {
+        int chunks = (wave.length + CHUNK_SIZE - 1) / CHUNK_SIZE;
+        int[][] buffers = new int[chunks][];
+
+        IntStream.range(0, chunks).parallel().forEach(c -> buffers[c] = release(wave, c * CHUNK_SIZE,
+                Math.min((c + 1) * CHUNK_SIZE, wave.length), nextLevel, offsets, targets, inDegree, levels));
+
+        return GraphArrays.concat(buffers);
+    }
+
+    // Decrements the in-degrees of the targets of wave[from .. to) and returns the targets this call brought to zero
+    private int[] release(int[] wave, int from, int to, int nextLevel, int[] offsets, int[] targets, AtomicIntegerArray inDegree,
+            int[] levels) {
+        IntStack released = new IntStack();
+
+        for (int i = from; i < to; i++) {
+            int current = wave[i];
+            for (int j = offsets[current]; j < offsets[current + 1]; j++) {
+                int adjNode = targets[j];
+                if (inDegree.decrementAndGet(adjNode) == 0) {
+                    levels[adjNode] = nextLevel;
+                    released.push(adjNode);
+                }
+            }
+        }
+
+        return released.toArray();
+    }
+
+    static class TopologicalOrder {
+        int[] order; // every vertex appears after all of its predecessors
+        int[] levels; // longest path (in edges) ending at each vertex; order lists the vertices level by level
+
+        public TopologicalOrder(int[] order, int[] levels) {
+            this.order = order;
+            this.levels = levels;
+        }
+    }
+
+    public static void main(String[] args) {
+        ParallelTopologicalSort graph = new ParallelTopologicalSort(6);
+        graph.addEdge(5, 2);
+        graph.addEdge(5, 0);
+        graph.addEdge(4, 0);
+        graph.addEdge(4, 1);
+        graph.addEdge(2, 3);
+        graph.addEdge(3, 1);
+
+        TopologicalOrder result = graph.execute();
+        System.out.println("Order: " + Arrays.toString(result.order));
+        System.out.println("Levels: " + Arrays.toString(result.levels));
+
+        // Order: [4, 5, 2, 0, 3, 1]
+        // Levels: [1, 3, 1, 2, 0, 0]
+    }
+}
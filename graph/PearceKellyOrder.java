@@ -0,0 +1,187 @@
+package graph;
+
+import java.util.*;
+import java.util.function.IntConsumer;
+
+final class PearceKellyOrder {
+
+    /*********************************************************************************************************************************
+     * Search / Reorder - Time Complexity: O(K log K) where K is the number of nodes (and their edges) in the affected region
+     * Space Complexity : O(N), for the positions, the marks and the forward search tree
+     *********************************************************************************************************************************
+     * Pearce-Kelly dynamic topological order, shared by DynamicTopologicalSort (over vertices) and IncrementalSCC (over
+     * components). ord[n] is the position of node n, order[p] the node at position p, or -1 for a position left empty.
+     * For a new edge from -> to with ord[from] > ord[to]:
+     * 1. Affected Region:
+     *      Only nodes with lower = ord[to] <= ord <= ord[from] = upper can need to move. searchForward collects the nodes
+     *      reachable from to with ord <= upper (F); searchBackward collects the nodes reaching from with ord >= lower (B).
+     *      If from is in F, the edge closes a cycle; what to do then is up to the caller.
+     * 2. Reorder:
+     *      Reuse the positions held by the region: B takes the lowest in its old relative order, an optional middle node
+     *      the next one, and F the highest. Nodes in B only move down and nodes in F only move up, so every edge outside
+     *      the region stays consistent and the new edge now points forward.
+     *********************************************************************************************************************************/
+
+    private int[] ord;
+    private int[] order;
+
+    // Visit marks for the two searches; a mark is valid only if it equals the current stamp
+    private int[] forwardMark;
+    private int[] backwardMark;
+    private int[] parent; // forward search tree, for reporting a cycle
+    private int stamp;
+
+    PearceKellyOrder(int size) {
+        this.ord = new int[size];
+        this.order = new int[size];
+        this.forwardMark = new int[size];
+        this.backwardMark = new int[size];
+        this.parent = new int[size];
+
+        // Without edges, any order is topological
+        for (int i = 0; i < size; i++) {
+            this.ord[i] = i;
+            this.order[i] = i;
+        }
+    }
+
+    int getPosition(int node) {
+        return this.ord[node];
+    }
+
+    // Node at the position, or -1 if the position is empty
+    int getNode(int position) {
+        return this.order[position];
+    }
+
+    int size() {
+        return this.order.length;
+    }
+
+    // Starts a new pair of searches; marks of earlier searches become invalid
+    void newSearch() {
+        this.stamp++;
+    }
+
+    IntStack searchForward(int start, int upper, Neighbors neighbors) {
+        return search(start, upper, true, neighbors);
+    }
+
+    IntStack searchBackward(int start, int lower, Neighbors neighbors) {
+        return search(start, lower, false, neighbors);
+    }
+
+    boolean isForwardMarked(int node) {
+        return this.forwardMark[node] == this.stamp;
+    }
+
+    boolean isBackwardMarked(int node) {
+        return this.backwardMark[node] == this.stamp;
+    }
+
+    // Path from the forward search's start to a node it marked
+    int[] getForwardPath(int to) {
+        IntStack stack = new IntStack();
+        for (int node = to; node != -1; node = this.parent[node]) {
+            stack.push(node);
+        }
+
+        int[] path = new int[stack.size()];
+        int index = 0;
+        while (!stack.isEmpty()) {
+            path[index++] = stack.pop();
+        }
+        return path;
+    }
+
+    // Leaves the node's position empty, for a node that stops existing (e.g. merged into another)
+    void remove(int node) {
+        this.order[this.ord[node]] = -1;
+    }
+
+    // Assigns the region's positions: low nodes from the bottom, then middle (if not -1), high nodes from the top
+    void reorder(int[] low, int middle, int[] high) {
+        int[] positions = new int[low.length + high.length + (middle != -1 ? 1 : 0)];
+        int count = 0;
+        for (int node : low) {
+            positions[count++] = this.ord[node];
+        }
+        for (int node : high) {
+            positions[count++] = this.ord[node];
+        }
+        if (middle != -1) {
+            positions[count++] = this.ord[middle];
+        }
+        Arrays.sort(positions);
+
+        sortByOrder(low);
+        sortByOrder(high);
+
+        for (int i = 0; i < low.length; i++) {
+            place(low[i], positions[i]);
+        }
+        if (middle != -1) {
+            place(middle, positions[low.length]);
+        }
+        for (int i = 0; i < high.length; i++) {
+            place(high[i], positions[count - high.length + i]);
+        }
+    }
+
+    // Collects the nodes reachable from start (forward) or reaching start (backward) within the bound of the region
+    private IntStack search(int start, int bound, boolean isForward, Neighbors neighbors) {
+        int[] mark = isForward ? this.forwardMark : this.backwardMark;
+
+        IntStack visited = new IntStack();
+        IntStack stack = new IntStack();
+        mark[start] = this.stamp;
+        if (isForward) {
+            this.parent[start] = -1;
+        }
+        stack.push(start);
+
+        while (!stack.isEmpty()) {
+            int current = stack.pop();
+            visited.push(current);
+
+            neighbors.forEach(current, isForward, adjNode -> {
+                if (mark[adjNode] == this.stamp) {
+                    return;
+                }
+
+                // Nodes outside [lower, upper] cannot be on a path between the endpoints
+                if (isForward ? this.ord[adjNode] <= bound : this.ord[adjNode] >= bound) {
+                    mark[adjNode] = this.stamp;
+                    if (isForward) {
+                        this.parent[adjNode] = current;
+                    }
+                    stack.push(adjNode);
+                }
+            });
+        }
+
+        return visited;
+    }
+
+    private void place(int node, int position) {
+        this.ord[node] = position;
+        this.order[position] = node;
+    }
+
+    private void sortByOrder(int[] group) {
+        long[] keys = new long[group.length];
+        for (int i = 0; i < group.length; i++) {
+            keys[i] = ((long) this.ord[group[i]] << 32) | group[i];
+        }
+        Arrays.sort(keys);
+
+        for (int i = 0; i < group.length; i++) {
+            group[i] = (int) keys[i];
+        }
+    }
+
+    // Successors (forward) or predecessors (backward) of a node in the ordered graph
+    interface Neighbors {
+        void forEach(int node, boolean isForward, IntConsumer visit);
+    }
+}
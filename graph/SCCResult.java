@@ -0,0 +1,46 @@
+package graph;
+
+import java.util.Arrays;
+
+public class SCCResult {
+
+    /*********************************************************************************************************************************
+     * Time Complexity  : O(V) to group the vertices, one counting sort by component
+     * Space Complexity : O(V), the component of every vertex plus the grouped members
+     *********************************************************************************************************************************
+     * The strongly connected components returned by the SCC engines of this package (TarjansFindSCC, ParallelFindSCC), so a
+     * caller can swap the sequential engine for the parallel one.
+     * 1. Labels: componentId[v] is the component of vertex v, numbered densely from 0 to componentCount - 1. Only Tarjan
+     *            numbers them in reverse topological order of the condensation; the parallel engine numbers them in no
+     *            particular order, as components are found by concurrent tasks.
+     * 2. Members: Component k's vertices are members[offsets[k]] .. members[offsets[k + 1] - 1], ascending, built from the
+     *             labels with one counting sort.
+     *********************************************************************************************************************************/
+
+    int componentCount;
+    int[] componentId; // component of each vertex; reverse topological order only from TarjansFindSCC
+    int[] offsets; // component k's members are members[offsets[k]] .. members[offsets[k + 1] - 1]
+    int[] members; // vertices grouped by component, ascending within each component
+
+    SCCResult(int componentCount, int[] componentId) {
+        this.componentCount = componentCount;
+        this.componentId = componentId;
+        this.offsets = new int[componentCount + 1];
+        for (int component : componentId) {
+            this.offsets[component + 1]++;
+        }
+        for (int k = 0; k < componentCount; k++) {
+            this.offsets[k + 1] += this.offsets[k];
+        }
+
+        this.members = new int[componentId.length];
+        int[] positions = Arrays.copyOf(this.offsets, componentCount);
+        for (int v = 0; v < componentId.length; v++) {
+            this.members[positions[componentId[v]]++] = v;
+        }
+    }
+
+    public int[] getComponent(int component) {
+        return Arrays.copyOfRange(this.members, this.offsets[component], this.offsets[component + 1]);
+    }
+}
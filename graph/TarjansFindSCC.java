@@ -0,0 +1,171 @@
+package graph;
+
+import java.util.*;
+
+public class TarjansFindSCC {
+
+    /*********************************************************************************************************************************
+     * Time Complexity  : O(V + E) - a single DFS over the original graph, no transposed copy.
+     * Space Complexity : O(V + E) - Compact Adjacency: O(V + E), rindex: O(V), root bits: O(V), Stacks: O(V)
+     *********************************************************************************************************************************
+     * Pearce's space-efficient variant of Tarjan's algorithm, with the recursion replaced by an explicit call stack.
+     * 1. Visit:
+     *      Give the vertex the next DFS index in rindex[v] and assume it is the root of its component.
+     * 2. Relax Edges:
+     *      After an edge v -> w is done (w visited before, or w's own visit has returned), set rindex[v] = min(rindex[v],
+     *      rindex[w]). If that lowers rindex[v], v can reach an earlier vertex and is not a root.
+     * 3. Finish:
+     *      A non-root is pushed on the component stack. A root pops every stacked vertex with rindex >= its own: they are its
+     *      component. Their rindex is overwritten with a component number counting down from V - 1. Those numbers are
+     *      larger than every DFS index still in use, so relaxing against a finished vertex can never lower rindex.
+     * 4. Label:
+     *      componentId = V - 1 - rindex, so components are numbered in the order they complete, which is a reverse
+     *      topological order of the condensation (a component only has edges into lower-numbered ones).
+     *      SCCResult lays the members out by component with a counting pass, giving component k the slice members[offsets[k] ..
+     *      offsets[k + 1]).
+     *********************************************************************************************************************************/
+
+    private int vertices;
+    private boolean directed;
+    private List<Integer>[] adj;
+
+    @SuppressWarnings("unchecked")
+    public TarjansFindSCC(int vertices, boolean directed) {
+        this.vertices = vertices;
+        this.directed = directed;
+        this.adj = new ArrayList[vertices];
+
+        // Initialize adjacency lists for all vertices
+        for (int i = 0; i < vertices; i++) {
+            this.adj[i] = new ArrayList<>();
+        }
+    }
+
+    public void addEdge(int source, int destination) {
+        if (source >= this.vertices) {
+            throw new IllegalArgumentException("Source index is out of bounds.");
+        }
+        if (destination >= this.vertices) {
+            throw new IllegalArgumentException("Destination index is out of bounds.");
+        }
+
+        // A parallel edge only meets a vertex that is already numbered, so addEdge stays O(1)
+        this.adj[source].add(destination);
+
+        // If the graph is undirected, add the reverse edge
+        if (!this.directed) {
+            this.adj[destination].add(source);
+        }
+    }
+
+    public SCCResult execute() {
+        int[][] rows = GraphArrays.compress(this.adj);
+        int[] offsets = rows[0];
+        int[] targets = rows[1];
+
+        // DFS index while a vertex is active, its component number (counting down) once it is assigned
+        int[] rindex = new int[this.vertices];
+        boolean[] root = new boolean[this.vertices];
+        int index = 1;
+        int component = this.vertices - 1;
+
+        IntStack stack = new IntStack(); // vertices whose component is not known yet
+        int[] callStack = new int[this.vertices]; // the explicit recursion: vertex and the next edge to follow
+        int[] nextEdge = new int[this.vertices];
+
+        for (int start = 0; start < this.vertices; start++) {
+            if (rindex[start] != 0) {
+                continue;
+            }
+
+            int depth = 0;
+            callStack[0] = start;
+            nextEdge[0] = offsets[start];
+            rindex[start] = index++;
+            root[start] = true;
+
+            while (depth >= 0) {
+                int v = callStack[depth];
+
+                if (nextEdge[depth] < offsets[v + 1]) {
+                    int w = targets[nextEdge[depth]];
+
+                    if (rindex[w] == 0) {
+                        // Descend into w; the edge is relaxed when w's visit returns
+                        depth++;
+                        callStack[depth] = w;
+                        nextEdge[depth] = offsets[w];
+                        rindex[w] = index++;
+                        root[w] = true;
+                        continue;
+                    }
+
+                    nextEdge[depth]++;
+                    if (rindex[w] < rindex[v]) {
+                        rindex[v] = rindex[w];
+                        root[v] = false;
+                    }
+                    continue;
+                }
+
+                // All edges of v are done
+                if (root[v]) {
+                    index--;
+                    while (!stack.isEmpty() && rindex[v] <= rindex[stack.peek()]) {
+                        rindex[stack.pop()] = component;
+                        index--;
+                    }
+                    rindex[v] = component;
+                    component--;
+                } else {
+                    stack.push(v);
+                }
+
+                // Return to the caller and relax the edge that led to v
+                depth--;
+                if (depth >= 0) {
+                    int parent = callStack[depth];
+                    nextEdge[depth]++;
+                    if (rindex[v] < rindex[parent]) {
+                        rindex[parent] = rindex[v];
+                        root[parent] = false;
+                    }
+                }
+            }
+        }
+
+        // Number components from 0 in completion order; SCCResult groups their members
+        int componentCount = this.vertices - 1 - component;
+        int[] componentId = new int[this.vertices];
+        for (int v = 0; v < this.vertices; v++) {
+            componentId[v] = this.vertices - 1 - rindex[v];
+        }
+
+        return new SCCResult(componentCount, componentId);
+    }
+
+    public static void main(String[] args) {
+        // Create a directed graph with 5 vertices
+        TarjansFindSCC graph = new TarjansFindSCC(5, true);
+        graph.addEdge(0, 2);
+        graph.addEdge(2, 1);
+        graph.addEdge(1, 0);
+        graph.addEdge(0, 3);
+        graph.addEdge(3, 4);
+
+        SCCResult result = graph.execute();
+
+        System.out.println("Component IDs: " + Arrays.toString(result.componentId));
+        System.out.println("Strongly Connected Components:");
+        for (int k = 0; k < result.componentCount; k++) {
+            System.out.println(Arrays.toString(result.getComponent(k)));
+        }
+
+        // Expected Output:
+        // Component IDs: [2, 2, 2, 1, 0]
+        // Strongly Connected Components:
+        // [4]
+        // [3]
+        // [0, 1, 2]
+    }
+}
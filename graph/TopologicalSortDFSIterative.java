@@ -56,7 +56,7 @@ public class TopologicalSortDFSIterative {
 
     public void execute() {
         boolean[] visited = new boolean[this.vertices];
-        Stack<Integer> sorted = new Stack<>();
+        IntStack sorted = new IntStack(this.vertices);
 
         // Perform DFS starting from all unvisited nodes
         for (int i = 0; i < this.vertices; i++) {
@@ -72,8 +72,8 @@ public class TopologicalSortDFSIterative {
         }
     }
 
-    private void execute(int startNode, boolean[] visited, Stack<Integer> sorted) {
-        Stack<Integer> stack = new Stack<>();
+    private void execute(int startNode, boolean[] visited, IntStack sorted) {
+        IntStack stack = new IntStack();
 
         stack.push(startNode);
 
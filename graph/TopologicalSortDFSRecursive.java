@@ -57,7 +57,7 @@ public class TopologicalSortDFSRecursive {
 
     public void execute() {
         boolean[] visited = new boolean[this.vertices];
-        Stack<Integer> sorted = new Stack<>();
+        IntStack sorted = new IntStack(this.vertices);
 
         // Call DFS for each unvisited node
         for (int i = 0; i < this.vertices; i++) {
@@ -73,7 +73,7 @@ public class TopologicalSortDFSRecursive {
         }
     }
 
-    private void execute(int node, boolean[] visited, Stack<Integer> sorted) {
+    private void execute(int node, boolean[] visited, IntStack sorted) {
         // If the node is not visited, visit it
         if (!visited[node]) {
             visited[node] = true;
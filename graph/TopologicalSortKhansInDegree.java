@@ -1,6 +1,15 @@
 package graph;
 
 import java.util.*;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicReference;
 
 public class TopologicalSortKhansInDegree {
 
@@ -21,6 +30,23 @@ public class TopologicalSortKhansInDegree {
      * 4. Check for Cycles:
      *      If all vertices are processed (sorted list contains all vertices), print the topological order.
      *      If not, there is a cycle in the graph.
+     *********************************************************************************************************************************
+     * Task Execution (one task per vertex, an edge u -> v means v depends on u):
+     * 1. Countdowns:
+     *      The in-degrees become atomic countdowns. A cycle is rejected before anything runs, as its tasks could never start.
+     * 2. Release:
+     *      Submit every task with in-degree 0 to the executor. When a task finishes, decrement the countdown of each
+     *      dependent; the thread that brings a countdown to 0 submits that dependent. There are no levels or barriers, so a task
+     *      starts as soon as its own dependencies are done.
+     * 3. Failure:
+     *      If a task throws, its dependents (and theirs) are skipped but still counted down, so the run always completes;
+     *      the first exception is rethrown as an ExecutionException. A task the executor refuses is skipped the same way.
+     *      Released tasks go onto a work list of the releasing thread, and only the loop draining that list submits them.
+     *      A task the executor runs inline (a direct executor, or CallerRunsPolicy once a pool is saturated) adds its
+     *      dependents to the list of the loop that submitted it, so a long chain never recurses, run or skipped.
+     * 4. Critical Path:
+     *      Tasks finish in a topological order. Walking that order with each task's measured duration gives the longest
+     *      dependency chain, the lower bound on the run time for any amount of parallelism, to compare with the makespan.
      *********************************************************************************************************************************/
 
     private int vertices;
@@ -61,7 +87,7 @@ public class TopologicalSortKhansInDegree {
         }
 
         // Step 2: Initialize a queue and add all nodes with in-degree 0
-        Queue<Integer> queue = new LinkedList<>();
+        IntRingQueue queue = new IntRingQueue(this.vertices);
         for (int i = 0; i < this.vertices; i++) {
             if (inDegree[i] == 0) {
                 queue.offer(i);
@@ -80,7 +106,7 @@ public class TopologicalSortKhansInDegree {
                 inDegree[adjNode]--;
                 if (inDegree[adjNode] == 0) {
                     // Add to queue if in-degree is 0
-                    queue.add(adjNode);
+                    queue.offer(adjNode);
                 }
             }
         }
@@ -97,7 +123,223 @@ public class TopologicalSortKhansInDegree {
         }
     }
 
-    public static void main(String[] args) {
+    public ScheduleResult execute(Runnable[] tasks, Executor executor) throws InterruptedException, ExecutionException {
+        if (tasks.length != this.vertices) {
+            throw new IllegalArgumentException("A task is needed for every vertex.");
+        }
+
+        int[] inDegree = new int[this.vertices];
+        for (int i = 0; i < this.vertices; i++) {
+            for (int adjNode : this.adj[i]) {
+                inDegree[adjNode]++;
+            }
+        }
+        if (!isAcyclic(inDegree.clone())) {
+            throw new IllegalArgumentException("There is a cycle in the graph.");
+        }
+
+        Schedule schedule = new Schedule(tasks, executor, inDegree);
+        schedule.start(inDegree);
+        schedule.done.await();
+
+        if (schedule.failure.get() != null) {
+            throw new ExecutionException(schedule.failure.get());
+        }
+        return schedule.getResult();
+    }
+
+    // Kahn's algorithm without output, consuming the given in-degrees
+    private boolean isAcyclic(int[] inDegree) {
+        IntRingQueue queue = new IntRingQueue(this.vertices);
+        for (int i = 0; i < this.vertices; i++) {
+            if (inDegree[i] == 0) {
+                queue.offer(i);
+            }
+        }
+
+        int processed = 0;
+        while (!queue.isEmpty()) {
+            int current = queue.poll();
+            processed++;
+            for (int adjNode : this.adj[current]) {
+                if (--inDegree[adjNode] == 0) {
+                    queue.offer(adjNode);
+                }
+            }
+        }
+
+        return processed == this.vertices;
+    }
+
+    // State of one task run
+    class Schedule {
+        Runnable[] tasks;
+        Executor executor;
+        AtomicIntegerArray remaining; // dependencies not finished yet
+        boolean[] skipped; // written before the countdown that releases the task, so the releasing thread sees it
+        long[] startTimes;
+        long[] finishTimes;
+        int[] finishOrder;
+        AtomicInteger finished = new AtomicInteger();
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        CountDownLatch done;
+        ThreadLocal<IntStack> workList = new ThreadLocal<>(); // the list a drain loop on this thread is working off
+        long origin;
+
+        Schedule(Runnable[] tasks, Executor executor, int[] inDegree) {
+            this.tasks = tasks;
+            this.executor = executor;
+            this.remaining = new AtomicIntegerArray(inDegree);
+            this.skipped = new boolean[vertices];
+            this.startTimes = new long[vertices];
+            this.finishTimes = new long[vertices];
+            this.finishOrder = new int[vertices];
+            this.done = new CountDownLatch(vertices);
+        }
+
+        void start(int[] inDegree) {
+            this.origin = System.nanoTime();
+            IntStack pending = new IntStack();
+
+            // Check the initial in-degrees, not the countdowns: running tasks may already have released other vertices.
+            // Pushed in reverse, so the roots are submitted in ascending order.
+            for (int i = vertices - 1; i >= 0; i--) {
+                if (inDegree[i] == 0) {
+                    pending.push(i);
+                }
+            }
+            drain(pending);
+        }
+
+        // Submits or skips released vertices until the list is empty. Finishing a vertex may release more of them, so a
+        // long chain is worked off in this loop instead of recursing through the executor.
+        void drain(IntStack pending) {
+            this.workList.set(pending);
+            try {
+                while (!pending.isEmpty()) {
+                    int vertex = pending.pop();
+                    if (this.skipped[vertex]) {
+                        this.startTimes[vertex] = System.nanoTime() - this.origin;
+                        finish(vertex, false, pending);
+                    } else {
+                        submit(vertex, pending);
+                    }
+                }
+            } finally {
+                this.workList.remove();
+            }
+        }
+
+        // Hands a ready vertex to the executor; if the executor refuses it, it goes back on the list as skipped
+        void submit(int vertex, IntStack pending) {
+            try {
+                this.executor.execute(() -> run(vertex));
+            } catch (RuntimeException e) {
+                // Rejected (or a broken executor): finish the vertex as skipped so the latch still reaches zero
+                this.failure.compareAndSet(null, e);
+                this.skipped[vertex] = true;
+                pending.push(vertex);
+            }
+        }
+
+        void run(int vertex) {
+            this.startTimes[vertex] = System.nanoTime() - this.origin;
+            boolean succeeded = false;
+
+            try {
+                this.tasks[vertex].run();
+                succeeded = true;
+            } catch (Throwable e) {
+                this.failure.compareAndSet(null, e);
+            }
+
+            // Run inline by a drain loop on this thread: leave the released dependents to that loop
+            IntStack pending = this.workList.get();
+            if (pending != null) {
+                finish(vertex, succeeded, pending);
+                return;
+            }
+
+            pending = new IntStack();
+            finish(vertex, succeeded, pending);
+            drain(pending);
+        }
+
+        void finish(int vertex, boolean succeeded, IntStack pending) {
+            this.finishTimes[vertex] = System.nanoTime() - this.origin;
+            this.finishOrder[this.finished.getAndIncrement()] = vertex;
+
+            // Release the dependents whose last dependency this was
+            for (int adjNode : adj[vertex]) {
+                if (!succeeded) {
+                    this.skipped[adjNode] = true;
+                }
+                if (this.remaining.decrementAndGet(adjNode) == 0) {
+                    pending.push(adjNode);
+                }
+            }
+
+            this.done.countDown();
+        }
+
+        ScheduleResult getResult() {
+            // Longest chain of task durations ending at each vertex, in finish order (a topological order)
+            long[] pathTime = new long[vertices];
+            long[] bestIncoming = new long[vertices];
+            int[] previous = new int[vertices];
+            Arrays.fill(previous, -1);
+
+            int last = -1;
+            for (int vertex : this.finishOrder) {
+                pathTime[vertex] = bestIncoming[vertex] + (this.finishTimes[vertex] - this.startTimes[vertex]);
+                if (last == -1 || pathTime[vertex] > pathTime[last]) {
+                    last = vertex;
+                }
+
+                for (int adjNode : adj[vertex]) {
+                    if (pathTime[vertex] > bestIncoming[adjNode] || previous[adjNode] == -1) {
+                        bestIncoming[adjNode] = pathTime[vertex];
+                        previous[adjNode] = vertex;
+                    }
+                }
+            }
+
+            IntStack stack = new IntStack();
+            for (int vertex = last; vertex != -1; vertex = previous[vertex]) {
+                stack.push(vertex);
+            }
+            int[] criticalPath = new int[stack.size()];
+            for (int i = 0; i < criticalPath.length; i++) {
+                criticalPath[i] = stack.pop();
+            }
+
+            long makespan = 0;
+            for (long finishTime : this.finishTimes) {
+                makespan = Math.max(makespan, finishTime);
+            }
+
+            return new ScheduleResult(this.startTimes, this.finishTimes, makespan, last == -1 ? 0 : pathTime[last],
+                    criticalPath);
+        }
+    }
+
+    static class ScheduleResult {
+        long[] startTimes; // nanoseconds from the start of the run
+        long[] finishTimes;
+        long makespan; // nanoseconds until the last task finished
+        long criticalPathTime; // summed durations along the longest dependency chain
+        int[] criticalPath; // the vertices of that chain, in dependency order
+
+        public ScheduleResult(long[] startTimes, long[] finishTimes, long makespan, long criticalPathTime, int[] criticalPath) {
+            this.startTimes = startTimes;
+            this.finishTimes = finishTimes;
+            this.makespan = makespan;
+            this.criticalPathTime = criticalPathTime;
+            this.criticalPath = criticalPath;
+        }
+    }
+
+    public static void main(String[] args) throws InterruptedException, ExecutionException {
         TopologicalSortKhansInDegree graph = new TopologicalSortKhansInDegree(6, true);
         graph.addEdge(5, 2);
         graph.addEdge(5, 0);
@@ -107,5 +349,46 @@ public class TopologicalSortKhansInDegree {
         graph.addEdge(3, 1);
         graph.execute();
         // Topological Sort Output: 4, 5, 2, 0, 3, 1
+
+        // Run the graph as jobs, job v sleeping v * 10 ms; a virtual thread per task executor works as well on Java 21+
+        Runnable[] tasks = new Runnable[6];
+        for (int i = 0; i < tasks.length; i++) {
+            long sleep = i * 10L;
+            tasks[i] = () -> {
+                try {
+                    Thread.sleep(sleep);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            };
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            ScheduleResult result = graph.execute(tasks, executor);
+            System.out.println("\nCritical Path: " + Arrays.toString(result.criticalPath));
+            System.out.println("Critical Path Time (ms): " + result.criticalPathTime / 1_000_000);
+            System.out.println("Makespan (ms): " + result.makespan / 1_000_000);
+        } finally {
+            executor.shutdown();
+        }
+
+        // Critical Path: [5, 2, 3, 1]
+        // Critical Path Time (ms): about 110 (50 + 20 + 30 + 10)
+        // Makespan (ms): about 110, every other chain runs alongside it
+
+        // A direct executor runs every task inline on this thread; a long chain still does not deepen the stack
+        int length = 200_000;
+        TopologicalSortKhansInDegree chain = new TopologicalSortKhansInDegree(length, true);
+        for (int i = 0; i + 1 < length; i++) {
+            chain.addEdge(i, i + 1);
+        }
+        Runnable[] steps = new Runnable[length];
+        Arrays.fill(steps, (Runnable) () -> {
+        });
+        ScheduleResult chainResult = chain.execute(steps, Runnable::run);
+        System.out.println("Chain Critical Path Length: " + chainResult.criticalPath.length);
+
+        // Chain Critical Path Length: 200000
     }
 }
@@ -0,0 +1,18 @@
+package graph;
+
+public interface TraversalVisitor {
+
+    /*********************************************************************************************************************************
+     * Callback interface for graph traversals. Vertices and depths are passed as primitives, so visiting allocates nothing.
+     * 1. onDiscover:
+     *      Called the first time the traversal reaches a vertex, with its depth (hops from the start of its traversal tree).
+     *      Return false to stop the traversal immediately.
+     * 2. onFinish:
+     *      Called once every neighbor of the vertex has been handled.
+     *********************************************************************************************************************************/
+
+    boolean onDiscover(int vertex, int depth);
+
+    default void onFinish(int vertex) {
+    }
+}
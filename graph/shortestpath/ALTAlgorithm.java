@@ -0,0 +1,463 @@
+package graph.shortestpath;
+
+import graph.shortestpath.DijkstrasAlgorithm.Edge;
+import graph.shortestpath.DijkstrasAlgorithm.ShortestPathInfo;
+
+import java.util.*;
+import java.util.stream.IntStream;
+
+public class ALTAlgorithm {
+
+    /*********************************************************************************************************************************
+     * Preprocessing    - Time Complexity: O(K * E log V) where K is the number of landmarks    Space Complexity: O(K * V)
+     * Query            - Time Complexity: O(K * E log V) in the worst case, usually a small fraction of Dijkstra's search space
+     *********************************************************************************************************************************
+     * ALT = A* search + Landmarks + Triangle inequality.
+     * 1. Select Landmarks:
+     *      FARTHEST: Repeatedly pick the vertex farthest from all landmarks chosen so far.
+     *      AVOID: Grow a shortest path tree from a root, weight each vertex by how poorly the current landmarks bound it, and
+     *             descend into the heaviest subtree that holds no landmark; the leaf reached becomes the next landmark.
+     * 2. Precompute Distance Tables:
+     *      For every landmark L store d(L, v) and d(v, L) for all vertices in flat int arrays (one row per landmark).
+     *      Each row is an independent Dijkstra run, so rows are computed in parallel.
+     * 3. Lower Bound (triangle inequality):
+     *      d(v, t) >= d(L, t) - d(L, v) and d(v, t) >= d(v, L) - d(t, L); the heuristic h(v) is the maximum over all landmarks.
+     *      The bound is consistent, so A* settles every vertex at most once.
+     * 4. Point-to-Point Query:
+     *      Run A* from the source ordered by f = g + h and stop as soon as the target is settled.
+     *      Trace the 'from' fields back to the source to get the path.
+     *********************************************************************************************************************************/
+
+    enum LandmarkStrategy {
+        FARTHEST,
+        AVOID
+    }
+
+    private static final int INFINITY = Integer.MAX_VALUE;
+
+    private int vertices;
+    private boolean directed;
+    private List<Edge>[] adj;
+    private List<Edge>[] reverseAdj;
+
+    private int[] landmarks;
+    private int[] fromLandmark; // fromLandmark[i * vertices + v] = d(landmarks[i], v)
+    private int[] toLandmark; // toLandmark[i * vertices + v] = d(v, landmarks[i])
+    private int settledCount; // vertices settled by the last query
+
+    @SuppressWarnings("unchecked")
+    public ALTAlgorithm(int vertices, boolean directed) {
+        this.vertices = vertices;
+        this.directed = directed;
+        this.adj = new ArrayList[vertices];
+
+        // Initialize adjacency list for each vertex
+        for (int i = 0; i < vertices; i++) {
+            this.adj[i] = new ArrayList<>();
+        }
+
+        // Distances to a landmark are searched on the reversed edges, which only differ for directed graphs
+        if (directed) {
+            this.reverseAdj = new ArrayList[vertices];
+            for (int i = 0; i < vertices; i++) {
+                this.reverseAdj[i] = new ArrayList<>();
+            }
+        }
+    }
+
+    public void addEdge(int source, int destination, int weight) {
+        if (source >= this.vertices) {
+            throw new IllegalArgumentException("Source index is out of bounds.");
+        }
+        if (destination >= this.vertices) {
+            throw new IllegalArgumentException("Destination index is out of bounds.");
+        }
+        if (weight < 0) {
+            throw new IllegalArgumentException("Edge weight must not be negative.");
+        }
+
+        this.adj[source].add(new Edge(destination, weight));
+
+        // If undirected, add an edge in the opposite direction, otherwise record the reversed edge
+        if (!this.directed) {
+            this.adj[destination].add(new Edge(source, weight));
+        } else {
+            this.reverseAdj[destination].add(new Edge(source, weight));
+        }
+
+        // Landmark distances no longer hold for the changed graph
+        this.landmarks = null;
+    }
+
+    public void preprocess(int landmarkCount, LandmarkStrategy strategy) {
+        if (landmarkCount <= 0 || landmarkCount > this.vertices) {
+            throw new IllegalArgumentException("Landmark count must be between 1 and the number of vertices.");
+        }
+
+        int[] selected = new int[landmarkCount];
+        int[] forward = new int[landmarkCount * this.vertices];
+
+        // Selection is sequential because each choice depends on the distances of the landmarks before it, but the
+        // forward rows computed along the way are kept instead of being recomputed.
+        if (strategy == LandmarkStrategy.FARTHEST) {
+            selectFarthestLandmarks(selected, forward);
+        } else {
+            selectAvoidLandmarks(selected, forward);
+        }
+
+        this.landmarks = selected;
+        this.fromLandmark = forward;
+        this.toLandmark = computeReverseTables(selected);
+    }
+
+    public void preprocess(int[] landmarks) {
+        for (int landmark : landmarks) {
+            if (landmark >= this.vertices) {
+                throw new IllegalArgumentException("Landmark index is out of bounds.");
+            }
+        }
+
+        int[] forward = new int[landmarks.length * this.vertices];
+
+        // Every row is an independent single source search
+        IntStream.range(0, landmarks.length).parallel().forEach(i -> {
+            int[] distances = shortestDistances(this.adj, landmarks[i], null, null);
+            System.arraycopy(distances, 0, forward, i * this.vertices, this.vertices);
+        });
+
+        this.landmarks = landmarks.clone();
+        this.fromLandmark = forward;
+        this.toLandmark = computeReverseTables(this.landmarks);
+    }
+
+    public ShortestPathInfo[] execute(int source, int target) {
+        if (source >= this.vertices) {
+            throw new IllegalArgumentException("Source index is out of bounds.");
+        }
+        if (target >= this.vertices) {
+            throw new IllegalArgumentException("Target index is out of bounds.");
+        }
+
+        // Entries are created only for vertices the search reaches
+        ShortestPathInfo[] output = new ShortestPathInfo[this.vertices];
+        boolean[] settled = new boolean[this.vertices];
+        this.settledCount = 0;
+
+        output[source] = new ShortestPathInfo(-1, 0);
+        Queue<Edge> queue = new PriorityQueue<>();
+        queue.add(new Edge(source, getHCost(source, target)));
+
+        while (!queue.isEmpty()) {
+            Edge current = queue.poll();
+            if (settled[current.node]) {
+                continue; // stale queue entry
+            }
+
+            settled[current.node] = true;
+            this.settledCount++;
+            if (current.node == target) {
+                break;
+            }
+
+            int currentDistance = output[current.node].distance;
+            for (Edge adjacencyEdge : this.adj[current.node]) {
+                if (settled[adjacencyEdge.node]) {
+                    continue;
+                }
+
+                int tentativeDistance = currentDistance + adjacencyEdge.weight;
+                ShortestPathInfo adjacencyEdgeInfo = output[adjacencyEdge.node];
+                if (adjacencyEdgeInfo != null && adjacencyEdgeInfo.distance <= tentativeDistance) {
+                    continue;
+                }
+
+                // Vertices proven unable to reach the target are never queued
+                int hCost = getHCost(adjacencyEdge.node, target);
+                if (hCost == INFINITY) {
+                    continue;
+                }
+
+                if (adjacencyEdgeInfo == null) {
+                    output[adjacencyEdge.node] = new ShortestPathInfo(current.node, tentativeDistance);
+                } else {
+                    adjacencyEdgeInfo.from = current.node;
+                    adjacencyEdgeInfo.distance = tentativeDistance;
+                }
+                queue.add(new Edge(adjacencyEdge.node, tentativeDistance + hCost));
+            }
+        }
+
+        return output;
+    }
+
+    public int[] getPath(int destination, ShortestPathInfo[] data) {
+        return DijkstrasAlgorithm.tracePath(destination, data);
+    }
+
+    public int getSettledCount() {
+        return this.settledCount;
+    }
+
+    // Lower bound on d(node, target) from the triangle inequality, INFINITY when the target is provably unreachable.
+    private int getHCost(int node, int target) {
+        if (this.landmarks == null) {
+            return 0;
+        }
+
+        long best = 0;
+        for (int i = 0; i < this.landmarks.length; i++) {
+            int row = i * this.vertices;
+
+            // d(v, t) >= d(L, t) - d(L, v)
+            long fromNode = this.fromLandmark[row + node];
+            long fromTarget = this.fromLandmark[row + target];
+            if (fromNode != INFINITY) {
+                if (fromTarget == INFINITY) {
+                    return INFINITY;
+                }
+                best = Math.max(best, fromTarget - fromNode);
+            }
+
+            // d(v, t) >= d(v, L) - d(t, L)
+            long toNode = this.toLandmark[row + node];
+            long toTarget = this.toLandmark[row + target];
+            if (toTarget != INFINITY) {
+                if (toNode == INFINITY) {
+                    return INFINITY;
+                }
+                best = Math.max(best, toNode - toTarget);
+            }
+        }
+
+        return (int) best;
+    }
+
+    private void selectFarthestLandmarks(int[] selected, int[] forward) {
+        // Distance from each vertex to its closest landmark so far
+        long[] closest = new long[this.vertices];
+        Arrays.fill(closest, Long.MAX_VALUE);
+
+        // Start from the vertex farthest from vertex 0 rather than from vertex 0 itself
+        int[] seedDistances = shortestDistances(this.adj, 0, null, null);
+        int candidate = farthestVertex(seedDistances);
+
+        for (int i = 0; i < selected.length; i++) {
+            selected[i] = candidate;
+            int[] distances = shortestDistances(this.adj, candidate, null, null);
+            System.arraycopy(distances, 0, forward, i * this.vertices, this.vertices);
+
+            // Unreachable vertices count as infinitely far, which spreads landmarks over disconnected parts
+            candidate = -1;
+            long farthest = -1;
+            for (int v = 0; v < this.vertices; v++) {
+                long distance = distances[v] == INFINITY ? Long.MAX_VALUE - 1 : distances[v];
+                closest[v] = Math.min(closest[v], distance);
+                if (closest[v] > farthest && !contains(selected, i + 1, v)) {
+                    farthest = closest[v];
+                    candidate = v;
+                }
+            }
+        }
+    }
+
+    private void selectAvoidLandmarks(int[] selected, int[] forward) {
+        Random random = new Random(this.vertices);
+        int[] parents = new int[this.vertices];
+        int[] order = new int[this.vertices + 1];
+
+        for (int i = 0; i < selected.length; i++) {
+            int root = random.nextInt(this.vertices);
+            int[] rootDistances = shortestDistances(this.adj, root, parents, order);
+            int reached = order[this.vertices];
+
+            // Weight every vertex by the gap between its true distance from the root and the current lower bound, then
+            // sum the weights of each subtree (children are settled after their parents, so walk the order backwards).
+            // A subtree that already holds a landmark is well covered and gets size zero.
+            long[] size = new long[this.vertices];
+            boolean[] holdsLandmark = new boolean[this.vertices];
+            for (int j = 0; j < i; j++) {
+                holdsLandmark[selected[j]] = true;
+            }
+
+            for (int j = reached - 1; j >= 0; j--) {
+                int v = order[j];
+                if (holdsLandmark[v]) {
+                    size[v] = 0;
+                } else {
+                    size[v] += rootDistances[v] - lowerBound(forward, root, v, i);
+                }
+
+                int parent = parents[v];
+                if (parent != -1) {
+                    if (holdsLandmark[v]) {
+                        holdsLandmark[parent] = true;
+                    } else if (!holdsLandmark[parent]) {
+                        size[parent] += size[v];
+                    }
+                }
+            }
+
+            // Remember the heaviest child of every vertex
+            int[] heaviestChild = new int[this.vertices];
+            Arrays.fill(heaviestChild, -1);
+            for (int j = 1; j < reached; j++) {
+                int v = order[j];
+                int parent = parents[v];
+                if (size[v] > 0 && (heaviestChild[parent] == -1 || size[v] > size[heaviestChild[parent]])) {
+                    heaviestChild[parent] = v;
+                }
+            }
+
+            // Descend from the root into the heaviest subtree until a leaf is reached
+            int candidate = root;
+            while (heaviestChild[candidate] != -1) {
+                candidate = heaviestChild[candidate];
+            }
+
+            // Every subtree is covered; fall back to the vertex farthest from the root
+            if (contains(selected, i, candidate)) {
+                candidate = farthestVertex(rootDistances);
+            }
+
+            selected[i] = candidate;
+            int[] distances = shortestDistances(this.adj, candidate, null, null);
+            System.arraycopy(distances, 0, forward, i * this.vertices, this.vertices);
+        }
+    }
+
+    // Lower bound d(source, destination) >= d(L, destination) - d(L, source) over the first 'count' forward rows.
+    private long lowerBound(int[] forward, int source, int destination, int count) {
+        long best = 0;
+        for (int i = 0; i < count; i++) {
+            int row = i * this.vertices;
+            long fromSource = forward[row + source];
+            long fromDestination = forward[row + destination];
+            if (fromSource != INFINITY && fromDestination != INFINITY) {
+                best = Math.max(best, fromDestination - fromSource);
+            }
+        }
+
+        return best;
+    }
+
+    private int[] computeReverseTables(int[] selected) {
+        // Undirected graphs are symmetric, so d(v, L) = d(L, v)
+        if (!this.directed) {
+            return this.fromLandmark;
+        }
+
+        int[] reverse = new int[selected.length * this.vertices];
+        IntStream.range(0, selected.length).parallel().forEach(i -> {
+            int[] distances = shortestDistances(this.reverseAdj, selected[i], null, null);
+            System.arraycopy(distances, 0, reverse, i * this.vertices, this.vertices);
+        });
+
+        return reverse;
+    }
+
+    // Plain Dijkstra over the given adjacency. Optionally records parents and the settle order; order[vertices] holds the
+    // number of settled vertices.
+    private int[] shortestDistances(List<Edge>[] graph, int source, int[] parents, int[] order) {
+        int[] distances = new int[this.vertices];
+        Arrays.fill(distances, INFINITY);
+        if (parents != null) {
+            Arrays.fill(parents, -1);
+        }
+
+        boolean[] settled = new boolean[this.vertices];
+        int settledCount = 0;
+
+        distances[source] = 0;
+        Queue<Edge> queue = new PriorityQueue<>();
+        queue.add(new Edge(source, 0));
+
+        while (!queue.isEmpty()) {
+            Edge current = queue.poll();
+            if (settled[current.node]) {
+                continue;
+            }
+
+            settled[current.node] = true;
+            if (order != null) {
+                order[settledCount] = current.node;
+            }
+            settledCount++;
+
+            for (Edge adjacencyEdge : graph[current.node]) {
+                int tentativeDistance = distances[current.node] + adjacencyEdge.weight;
+                if (!settled[adjacencyEdge.node] && tentativeDistance < distances[adjacencyEdge.node]) {
+                    distances[adjacencyEdge.node] = tentativeDistance;
+                    if (parents != null) {
+                        parents[adjacencyEdge.node] = current.node;
+                    }
+                    queue.add(new Edge(adjacencyEdge.node, tentativeDistance));
+                }
+            }
+        }
+
+        if (order != null) {
+            order[this.vertices] = settledCount;
+        }
+
+        return distances;
+    }
+
+    private int farthestVertex(int[] distances) {
+        int farthest = 0;
+        for (int v = 1; v < this.vertices; v++) {
+            if (distances[v] != INFINITY && (distances[farthest] == INFINITY || distances[v] > distances[farthest])) {
+                farthest = v;
+            }
+        }
+
+        return farthest;
+    }
+
+    private static boolean contains(int[] array, int length, int value) {
+        for (int i = 0; i < length; i++) {
+            if (array[i] == value) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    public static void main(String[] args) {
+        // 20 x 20 road-like grid: moving right costs 1, moving down costs 2
+        int side = 20;
+        ALTAlgorithm graph = new ALTAlgorithm(side * side, false);
+        for (int row = 0; row < side; row++) {
+            for (int column = 0; column < side; column++) {
+                int node = row * side + column;
+                if (column + 1 < side) {
+                    graph.addEdge(node, node + 1, 1);
+                }
+                if (row + 1 < side) {
+                    graph.addEdge(node, node + side, 2);
+                }
+            }
+        }
+
+        int source = 0;
+        int target = side * side - 1;
+
+        // Without landmarks the heuristic is zero and the search degrades to Dijkstra
+        ShortestPathInfo[] output = graph.execute(source, target);
+        System.out.println("Dijkstra - Distance: " + output[target].distance + ", Settled: " + graph.getSettledCount());
+
+        graph.preprocess(4, LandmarkStrategy.FARTHEST);
+        output = graph.execute(source, target);
+        System.out.println("ALT      - Distance: " + output[target].distance + ", Settled: " + graph.getSettledCount());
+        System.out.println("Path: " + Arrays.toString(graph.getPath(target, output)));
+
+        graph.preprocess(4, LandmarkStrategy.AVOID);
+        output = graph.execute(side - 1, side * (side - 1));
+        System.out.println("ALT      - Distance: " + output[side * (side - 1)].distance + ", Settled: " + graph.getSettledCount());
+
+        // Dijkstra - Distance: 57, Settled: 400
+        // ALT      - Distance: 57, Settled: 76
+        // Path: [0, 1, 21, 41, 61, ..., 361, 381, 382, 383, ..., 398, 399]
+        // ALT      - Distance: 57, Settled: 76
+    }
+}
@@ -23,6 +23,9 @@ public class AStarAlgorithm {
      *              If the neighbor is not in the open set or has a lower f value, update its values and add it to the open set.
      * 3. Reconstruct Path:
      *      If the goal node is reached, trace back through the parent nodes to reconstruct the path from start to goal.
+     * 4. Flow Field (many agents, one target):
+     *      Run a single reverse breadth-first wave from the target and record each cell's distance and next-step direction.
+     *      Cache the field per target so every agent's next step is an O(1) lookup; any obstacle change clears the cache.
      *********************************************************************************************************************************/
 
     static class Node implements Comparable<Node> {
@@ -56,8 +59,12 @@ public class AStarAlgorithm {
     // Diagonal movements are not considered, so using only four neighbours without including diagonal cells.
     private static final int[][] DIRECTIONS = { { 0, 1 }, { 1, 0 }, { 0, -1 }, { -1, 0 } };
 
+    // Marks a cell with no next step in a flow field (the target itself, obstacles and unreachable cells).
+    private static final byte NO_DIRECTION = -1;
+
     int size;
     Node[][] grid;
+    Map<Integer, FlowField> flowFields; // flow fields cached per target cell, cleared whenever the grid changes
 
     public AStarAlgorithm(int size) {
         this.size = size;
@@ -68,6 +75,8 @@ public class AStarAlgorithm {
                 this.grid[i][j] = new Node(i, j);
             }
         }
+
+        this.flowFields = new HashMap<>();
     }
 
     public void setObstacle(int x, int y) {
@@ -76,6 +85,9 @@ public class AStarAlgorithm {
         }
 
         this.grid[x][y].isObstacle = true;
+
+        // Any cached flow field may now route through the new obstacle
+        this.flowFields.clear();
     }
 
     public List<Node> execute(Node start, Node target) {
@@ -139,6 +151,96 @@ public class AStarAlgorithm {
         return new ArrayList<>();
     }
 
+    public FlowField getFlowField(Node target) {
+        target = this.grid[target.x][target.y];
+        if (target.isObstacle) {
+            throw new IllegalArgumentException("Target cell is defined as an obstacle.");
+        }
+
+        int key = target.x * this.size + target.y;
+        FlowField field = this.flowFields.get(key);
+        if (field == null) {
+            field = buildFlowField(target);
+            this.flowFields.put(key, field);
+        }
+
+        return field;
+    }
+
+    public Node getNextStep(Node current, Node target) {
+        if (!isInBounds(current.x, current.y)) {
+            throw new IllegalArgumentException("Cell position is out of bounds.");
+        }
+
+        FlowField field = getFlowField(target);
+        int direction = field.direction[current.x * this.size + current.y];
+
+        // No step from the target itself or from a cell that cannot reach the target
+        if (direction == NO_DIRECTION) {
+            return null;
+        }
+
+        return this.grid[current.x + DIRECTIONS[direction][0]][current.y + DIRECTIONS[direction][1]];
+    }
+
+    public List<Node> getFlowFieldPath(Node start, Node target) {
+        FlowField field = getFlowField(target);
+        List<Node> path = new ArrayList<>();
+
+        int cell = start.x * this.size + start.y;
+        if (field.distance[cell] == Integer.MAX_VALUE) {
+            return path;
+        }
+
+        // Follow the direction map until the target is reached
+        Node current = this.grid[start.x][start.y];
+        while (current != null) {
+            path.add(current);
+            current = getNextStep(current, target);
+        }
+
+        return path;
+    }
+
+    private FlowField buildFlowField(Node target) {
+        int cells = this.size * this.size;
+        FlowField field = new FlowField(target.x, target.y, cells);
+
+        // Reverse breadth-first wave from the target: every move costs 1 and the grid is undirected, so the first time a
+        // cell is reached is its shortest distance to the target.
+        int[] queue = new int[cells];
+        int head = 0;
+        int tail = 0;
+
+        int targetCell = target.x * this.size + target.y;
+        field.distance[targetCell] = 0;
+        queue[tail++] = targetCell;
+
+        while (head < tail) {
+            int cell = queue[head++];
+            int x = cell / this.size;
+            int y = cell % this.size;
+
+            for (int i = 0; i < DIRECTIONS.length; i++) {
+                int neighbourX = x + DIRECTIONS[i][0];
+                int neighbourY = y + DIRECTIONS[i][1];
+                if (!isInBounds(neighbourX, neighbourY) || this.grid[neighbourX][neighbourY].isObstacle) {
+                    continue;
+                }
+
+                int neighbour = neighbourX * this.size + neighbourY;
+                if (field.distance[neighbour] == Integer.MAX_VALUE) {
+                    field.distance[neighbour] = field.distance[cell] + 1;
+                    // The neighbour steps back along the opposite direction to reach the current cell
+                    field.direction[neighbour] = (byte) ((i + 2) % DIRECTIONS.length);
+                    queue[tail++] = neighbour;
+                }
+            }
+        }
+
+        return field;
+    }
+
     private boolean isInBounds(int x, int y) {
         return x >= 0 && y >= 0 && x < this.size && y < this.size;
     }
@@ -176,5 +278,34 @@ public class AStarAlgorithm {
         }
 
         // Shortest Path: {0,0}, {0,1}, {0,2}, {1,2}, {2,2}, {2,3}, {2,4}, {3,4}, {4,4},
+
+        // Many agents heading to the same target share one flow field
+        Node target = new Node(4, 4);
+        System.out.println("\nFlow Field Paths:");
+        for (Node agent : new Node[] { new Node(0, 0), new Node(4, 0), new Node(0, 4) }) {
+            System.out.println(graph.getFlowFieldPath(agent, target));
+        }
+
+        // Flow Field Paths:
+        // [{0,0}, {0,1}, {0,2}, {1,2}, {2,2}, {2,3}, {2,4}, {3,4}, {4,4}]
+        // [{4,0}, {4,1}, {3,1}, {3,2}, {2,2}, {2,3}, {2,4}, {3,4}, {4,4}]
+        // [{0,4}, {1,4}, {2,4}, {3,4}, {4,4}]
+    }
+
+    static class FlowField {
+        int targetX;
+        int targetY;
+        int[] distance; // steps from each cell (x * size + y) to the target, Integer.MAX_VALUE when unreachable
+        byte[] direction; // index into DIRECTIONS of the next step towards the target, NO_DIRECTION when there is none
+
+        public FlowField(int targetX, int targetY, int cells) {
+            this.targetX = targetX;
+            this.targetY = targetY;
+            this.distance = new int[cells];
+            this.direction = new byte[cells];
+
+            Arrays.fill(this.distance, Integer.MAX_VALUE);
+            Arrays.fill(this.direction, NO_DIRECTION);
+        }
     }
 }
@@ -1,5 +1,7 @@
 package graph.shortestpath;
 
+import graph.IntStack;
+
 import java.util.*;
 
 public class BellmanFordAlgorithm {
@@ -103,7 +105,7 @@ public class BellmanFordAlgorithm {
             throw new IllegalArgumentException("Destination index out of bounds.");
         }
 
-        Stack<Integer> stack = new Stack<>();
+        IntStack stack = new IntStack();
         stack.push(destination);
 
         // Trace the path back from destination to source using the 'from' information
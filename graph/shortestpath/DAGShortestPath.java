@@ -0,0 +1,304 @@
+package graph.shortestpath;
+
+import graph.IntRingQueue;
+import graph.IntStack;
+
+import java.util.*;
+
+public class DAGShortestPath {
+
+    /*********************************************************************************************************************************
+     * Time Complexity  : O(V + E) per query, plus O(V + E) once for the topological order after edges change
+     * Space Complexity : O(V + E)
+     *********************************************************************************************************************************
+     * 1. Topological Order:
+     *      Order the vertices with Kahn's algorithm (as in TopologicalSortKhansInDegree). The order is kept until the next
+     *      addEdge, so repeated queries pay for it once. A cycle is rejected, as the method only works on a DAG.
+     * 2. Shortest / Longest Path (single source):
+     *      Walk the order from the source and relax every outgoing edge of each reached vertex exactly once. All paths into a
+     *      vertex are relaxed before it is scanned, so its distance is final. No priority queue is needed and negative weights
+     *      are fine. Longest paths relax with max instead of min, which is only well-defined because there are no cycles.
+     * 3. Critical Path (whole DAG, weights are activity durations):
+     *      Forward pass: earliest[v] = max(earliest[u] + w) over edges u -> v, 0 for vertices without predecessors.
+     *      Backward pass: latest[v] = min(latest[w] - weight) over edges v -> w, project length for vertices without successors.
+     *      slack = latest - earliest; the vertices with zero slack along the longest chain form the critical path.
+     *********************************************************************************************************************************/
+
+    private int vertices;
+    private List<Edge>[] adj;
+    private int[] order; // topological order, null until needed after an edge change
+
+    @SuppressWarnings("unchecked")
+    public DAGShortestPath(int vertices) {
+        this.vertices = vertices;
+        this.adj = new ArrayList[vertices];
+
+        // Initialize each adjacency list for each vertex
+        for (int i = 0; i < vertices; i++) {
+            this.adj[i] = new ArrayList<>();
+        }
+    }
+
+    public void addEdge(int source, int destination, int weight) {
+        if (source >= this.vertices) {
+            throw new IllegalArgumentException("Source index is out of bounds.");
+        }
+        if (destination >= this.vertices) {
+            throw new IllegalArgumentException("Destination index is out of bounds.");
+        }
+
+        this.adj[source].add(new Edge(destination, weight));
+        this.order = null;
+    }
+
+    // Shortest paths from the source; unreachable vertices keep distance Integer.MAX_VALUE
+    public ShortestPathInfo[] execute(int source) {
+        return execute(source, false);
+    }
+
+    // Longest paths from the source; unreachable vertices keep distance Integer.MIN_VALUE
+    public ShortestPathInfo[] executeLongest(int source) {
+        return execute(source, true);
+    }
+
+    private ShortestPathInfo[] execute(int source, boolean longest) {
+        if (source >= this.vertices) {
+            throw new IllegalArgumentException("Source index is out of bounds.");
+        }
+
+        int[] order = getTopologicalOrder();
+        int unreached = longest ? Integer.MIN_VALUE : Integer.MAX_VALUE;
+
+        ShortestPathInfo[] output = new ShortestPathInfo[this.vertices];
+        for (int i = 0; i < this.vertices; i++) {
+            output[i] = new ShortestPathInfo(-1, unreached);
+        }
+        output[source].distance = 0;
+
+        // Vertices before the source in the order cannot be reached from it
+        int start = 0;
+        while (order[start] != source) {
+            start++;
+        }
+
+        for (int i = start; i < order.length; i++) {
+            int current = order[i];
+            ShortestPathInfo currentInfo = output[current];
+            if (currentInfo.distance == unreached) {
+                continue;
+            }
+
+            // Relaxation step, once per edge
+            for (Edge edge : this.adj[current]) {
+                ShortestPathInfo adjacencyEdgeInfo = output[edge.node];
+                int distance = currentInfo.distance + edge.weight;
+
+                if (adjacencyEdgeInfo.distance == unreached
+                        || (longest ? distance > adjacencyEdgeInfo.distance : distance < adjacencyEdgeInfo.distance)) {
+                    adjacencyEdgeInfo.from = current;
+                    adjacencyEdgeInfo.distance = distance;
+                }
+            }
+        }
+
+        return output;
+    }
+
+    public CriticalPathInfo executeCriticalPath() {
+        int[] order = getTopologicalOrder();
+        int[] earliest = new int[this.vertices];
+        int[] from = new int[this.vertices];
+        Arrays.fill(from, -1);
+
+        // Forward pass: the earliest time each vertex can be reached
+        for (int current : order) {
+            for (Edge edge : this.adj[current]) {
+                int time = earliest[current] + edge.weight;
+                if (from[edge.node] == -1 || time > earliest[edge.node]) {
+                    earliest[edge.node] = time;
+                    from[edge.node] = current;
+                }
+            }
+        }
+
+        int end = -1;
+        int length = 0;
+        for (int v = 0; v < this.vertices; v++) {
+            if (end == -1 || earliest[v] > length) {
+                end = v;
+                length = earliest[v];
+            }
+        }
+
+        // Backward pass: the latest time each vertex can be reached without delaying the end
+        int[] latest = new int[this.vertices];
+        Arrays.fill(latest, length);
+        for (int i = order.length - 1; i >= 0; i--) {
+            int current = order[i];
+            for (Edge edge : this.adj[current]) {
+                latest[current] = Math.min(latest[current], latest[edge.node] - edge.weight);
+            }
+        }
+
+        int[] slack = new int[this.vertices];
+        for (int v = 0; v < this.vertices; v++) {
+            slack[v] = latest[v] - earliest[v];
+        }
+
+        IntStack stack = new IntStack();
+        for (int v = end; v != -1; v = from[v]) {
+            stack.push(v);
+        }
+        int[] criticalPath = new int[stack.size()];
+        for (int i = 0; i < criticalPath.length; i++) {
+            criticalPath[i] = stack.pop();
+        }
+
+        return new CriticalPathInfo(length, earliest, latest, slack, criticalPath);
+    }
+
+    public int[] getPath(int destination, ShortestPathInfo[] data) {
+        if (destination >= data.length) {
+            throw new IllegalArgumentException("Destination index out of bounds.");
+        }
+
+        // The query never reached the destination
+        if (data[destination].distance == Integer.MAX_VALUE || data[destination].distance == Integer.MIN_VALUE) {
+            return new int[0];
+        }
+
+        IntStack stack = new IntStack();
+        stack.push(destination);
+
+        // Trace the path back from destination to source using the 'from' information
+        ShortestPathInfo info = data[destination];
+        while (info.from != -1) {
+            stack.push(info.from);
+            info = data[info.from];
+        }
+
+        // Convert the path stack to an array
+        int[] path = new int[stack.size()];
+        int index = 0;
+        while (!stack.isEmpty()) {
+            path[index++] = stack.pop();
+        }
+
+        return path;
+    }
+
+    // Kahn's algorithm; the result is kept until the next edge is added
+    private int[] getTopologicalOrder() {
+        if (this.order != null) {
+            return this.order;
+        }
+
+        int[] inDegree = new int[this.vertices];
+        for (int i = 0; i < this.vertices; i++) {
+            for (Edge edge : this.adj[i]) {
+                inDegree[edge.node]++;
+            }
+        }
+
+        IntRingQueue queue = new IntRingQueue(this.vertices);
+        for (int i = 0; i < this.vertices; i++) {
+            if (inDegree[i] == 0) {
+                queue.offer(i);
+            }
+        }
+
+        int[] order = new int[this.vertices];
+        int count = 0;
+        while (!queue.isEmpty()) {
+            int current = queue.poll();
+            order[count++] = current;
+
+            for (Edge edge : this.adj[current]) {
+                if (--inDegree[edge.node] == 0) {
+                    queue.offer(edge.node);
+                }
+            }
+        }
+
+        if (count < this.vertices) {
+            throw new IllegalArgumentException("There is a cycle in the graph.");
+        }
+
+        this.order = order;
+        return order;
+    }
+
+    static class ShortestPathInfo {
+        int from;
+        int distance;
+
+        public ShortestPathInfo(int from, int distance) {
+            this.from = from;
+            this.distance = distance;
+        }
+    }
+
+    static class CriticalPathInfo {
+        int length; // length of the longest path in the DAG (project duration)
+        int[] earliest; // earliest time each vertex is reached
+        int[] latest; // latest time each vertex can be reached without extending the project
+        int[] slack; // latest - earliest, 0 on critical vertices
+        int[] criticalPath; // a longest path, from its first to its last vertex
+
+        public CriticalPathInfo(int length, int[] earliest, int[] latest, int[] slack, int[] criticalPath) {
+            this.length = length;
+            this.earliest = earliest;
+            this.latest = latest;
+            this.slack = slack;
+            this.criticalPath = criticalPath;
+        }
+    }
+
+    static class Edge {
+        int node;
+        int weight;
+
+        public Edge(int node, int weight) {
+            this.node = node;
+            this.weight = weight;
+        }
+    }
+
+    public static void main(String[] args) {
+        DAGShortestPath graph = new DAGShortestPath(6);
+        graph.addEdge(0, 1, 5);
+        graph.addEdge(0, 2, 3);
+        graph.addEdge(1, 3, 6);
+        graph.addEdge(1, 2, 2);
+        graph.addEdge(2, 4, 4);
+        graph.addEdge(2, 5, 2);
+        graph.addEdge(2, 3, 7);
+        graph.addEdge(3, 4, -1);
+        graph.addEdge(4, 5, -2);
+
+        ShortestPathInfo[] shortest = graph.execute(0);
+        ShortestPathInfo[] longest = graph.executeLongest(0);
+
+        System.out.println("Paths From Node '0'");
+        for (int i = 0; i < shortest.length; i++) {
+            System.out.println("Node: " + i +
+                    ", Shortest: " + shortest[i].distance + " " + Arrays.toString(graph.getPath(i, shortest)) +
+                    ", Longest: " + longest[i].distance + " " + Arrays.toString(graph.getPath(i, longest)));
+        }
+
+        CriticalPathInfo critical = graph.executeCriticalPath();
+        System.out.println("Project Length: " + critical.length);
+        System.out.println("Slack: " + Arrays.toString(critical.slack));
+        System.out.println("Critical Path: " + Arrays.toString(critical.criticalPath));
+
+        // Node: 0, Shortest: 0 [0], Longest: 0 [0]
+        // Node: 1, Shortest: 5 [0, 1], Longest: 5 [0, 1]
+        // Node: 2, Shortest: 3 [0, 2], Longest: 7 [0, 1, 2]
+        // Node: 3, Shortest: 10 [0, 2, 3], Longest: 14 [0, 1, 2, 3]
+        // Node: 4, Shortest: 7 [0, 2, 4], Longest: 13 [0, 1, 2, 3, 4]
+        // Node: 5, Shortest: 5 [0, 2, 5], Longest: 11 [0, 1, 2, 3, 4, 5]
+        // Project Length: 14
+        // Slack: [0, 0, 0, 0, 1, 3]
+        // Critical Path: [0, 1, 2, 3]
+    }
+}
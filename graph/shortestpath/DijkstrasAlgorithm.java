@@ -1,5 +1,7 @@
 package graph.shortestpath;
 
+import graph.IntStack;
+
 import java.util.*;
 
 public class DijkstrasAlgorithm {
@@ -24,6 +26,10 @@ public class DijkstrasAlgorithm {
      *      Store the path in a stack and then convert it to an array.
      * 5. Print Results:
      *      Output the shortest distance, the previous node, and the path for each vertex.
+     * 6. Nearest Targets (bounded search):
+     *      Targets are given as a bitset. Vertices are settled in distance order, so each target is reported the moment it is
+     *      settled. Stop once k targets are found or the next vertex lies beyond the radius; edges leading past the radius are
+     *      never queued, so the work stays proportional to the explored neighbourhood instead of the whole graph.
      *********************************************************************************************************************************/
 
     private int vertices;
@@ -92,12 +98,94 @@ public class DijkstrasAlgorithm {
         return output;
     }
 
+    public NearestTargets executeNearest(int source, long[] targets, int k, int radius) {
+        if (source >= this.vertices) {
+            throw new IllegalArgumentException("Source index is out of bounds.");
+        }
+        if (targets.length < (this.vertices + 63) >>> 6) {
+            throw new IllegalArgumentException("Target bitset must hold a bit for every vertex.");
+        }
+        if (k < 0) {
+            throw new IllegalArgumentException("Target count must not be negative.");
+        }
+
+        int capacity = 0;
+        for (long word : targets) {
+            capacity += Long.bitCount(word);
+        }
+        capacity = Math.min(capacity, k);
+
+        int[] nodes = new int[capacity];
+        int[] distances = new int[capacity];
+        int found = 0;
+
+        // Path entries are created only for vertices the search reaches
+        ShortestPathInfo[] output = new ShortestPathInfo[this.vertices];
+        long[] settled = new long[(this.vertices + 63) >>> 6];
+        output[source] = new ShortestPathInfo(-1, 0);
+
+        Queue<Edge> queue = new PriorityQueue<>();
+        queue.add(new Edge(source, 0));
+
+        while (!queue.isEmpty() && found < capacity) {
+            Edge current = queue.poll();
+
+            // Vertices leave the queue in distance order, so nothing later can be within the radius
+            if (current.weight > radius) {
+                break;
+            }
+
+            // Skip stale entries of vertices already settled with a shorter distance
+            if ((settled[current.node >>> 6] & (1L << current.node)) != 0) {
+                continue;
+            }
+            settled[current.node >>> 6] |= 1L << current.node;
+
+            if ((targets[current.node >>> 6] & (1L << current.node)) != 0) {
+                nodes[found] = current.node;
+                distances[found] = current.weight;
+                found++;
+            }
+
+            for (Edge adjacencyEdge : this.adj[current.node]) {
+                // Compared in long so a radius near Integer.MAX_VALUE cannot let the sum wrap around
+                long sum = (long) current.weight + adjacencyEdge.weight;
+                if (sum > radius) {
+                    continue;
+                }
+                int distance = (int) sum;
+
+                ShortestPathInfo adjacencyEdgeInfo = output[adjacencyEdge.node];
+                if (adjacencyEdgeInfo == null) {
+                    output[adjacencyEdge.node] = new ShortestPathInfo(current.node, distance);
+                    queue.add(new Edge(adjacencyEdge.node, distance));
+                } else if (adjacencyEdgeInfo.distance > distance) {
+                    adjacencyEdgeInfo.from = current.node;
+                    adjacencyEdgeInfo.distance = distance;
+                    queue.add(new Edge(adjacencyEdge.node, distance));
+                }
+            }
+        }
+
+        return new NearestTargets(Arrays.copyOf(nodes, found), Arrays.copyOf(distances, found), output);
+    }
+
     public int[] getPath(int destination, ShortestPathInfo[] data) {
+        return tracePath(destination, data);
+    }
+
+    // Shared with the other searches of this package that fill a ShortestPathInfo array, e.g. ALTAlgorithm
+    static int[] tracePath(int destination, ShortestPathInfo[] data) {
         if (destination >= data.length) {
             throw new IllegalArgumentException("Destination index out of bounds.");
         }
 
-        Stack<Integer> stack = new Stack<>();
+        // The search never reached the destination (executeNearest and ALT leave such entries empty)
+        if (data[destination] == null) {
+            return new int[0];
+        }
+
+        IntStack stack = new IntStack();
         stack.push(destination);
 
         // Trace the path back from destination to source using the 'from' information
@@ -144,6 +232,35 @@ public class DijkstrasAlgorithm {
         // Node: 3, From: 1, Distance: 4, Path: [0, 2, 1, 3]
         // Node: 4, From: 3, Distance: 7, Path: [0, 2, 1, 3, 4]
         // Node: 5, From: 4, Distance: 8, Path: [0, 2, 1, 3, 4, 5]
+
+        // Two nearest of the targets {1, 4, 5} within distance 10
+        long[] targets = new long[1];
+        targets[0] |= 1L << 1;
+        targets[0] |= 1L << 4;
+        targets[0] |= 1L << 5;
+        NearestTargets nearest = graph.executeNearest(0, targets, 2, 10);
+
+        System.out.println("Nearest Targets From Node '0'");
+        for (int i = 0; i < nearest.nodes.length; i++) {
+            System.out.println("Node: " + nearest.nodes[i] +
+                    ", Distance: " + nearest.distances[i] +
+                    ", Path: " + Arrays.toString(graph.getPath(nearest.nodes[i], nearest.paths)));
+        }
+
+        // Node: 1, Distance: 3, Path: [0, 2, 1]
+        // Node: 4, Distance: 7, Path: [0, 2, 1, 3, 4]
+    }
+
+    static class NearestTargets {
+        int[] nodes; // targets in increasing distance order
+        int[] distances;
+        ShortestPathInfo[] paths; // entries only for reached vertices, for use with getPath
+
+        public NearestTargets(int[] nodes, int[] distances, ShortestPathInfo[] paths) {
+            this.nodes = nodes;
+            this.distances = distances;
+            this.paths = paths;
+        }
     }
 
     static class ShortestPathInfo {
@@ -167,7 +284,8 @@ public class DijkstrasAlgorithm {
 
         @Override
         public int compareTo(Edge edge) {
-            return this.weight - edge.weight;
+            // Not a subtraction: ALTAlgorithm queues distance plus heuristic, which can be far apart
+            return Integer.compare(this.weight, edge.weight);
         }
     }
 }
@@ -1,5 +1,7 @@
 package graph.shortestpath;
 
+import graph.IntStack;
+
 import java.util.*;
 
 public class JohnsonsAlgorithm {
@@ -36,7 +38,7 @@ public class JohnsonsAlgorithm {
         }
 
         public int[] getPath(int node) {
-            Stack<Integer> stack = new Stack<>();
+            IntStack stack = new IntStack();
 
             int current = node;
             while (current != -1) {
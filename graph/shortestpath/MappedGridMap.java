@@ -0,0 +1,369 @@
+package graph.shortestpath;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.*;
+
+public class MappedGridMap implements Closeable {
+
+    /*********************************************************************************************************************************
+     * Open             - Time Complexity: O(1), nothing is read per cell                        Space Complexity: O(T) tile slots
+     * A* Query         - Time Complexity: O(N log N) where N is the number of cells the search touches
+     *                    Space Complexity: O(N) plus the tiles those cells fall into
+     *********************************************************************************************************************************
+     * File Layout (big-endian):
+     *      Header  : magic "GRID", version, rows, columns, tile size, padded to 32 bytes.
+     *      Tiles   : tile after tile in row-major order. Each tile of S x S cells holds S * S obstacle bits (padded to whole
+     *                longs) followed by S * S cost bytes. A cost byte stores (cost - 1), so a zero-filled file is a free grid
+     *                where every move costs 1 and creating a map never writes a single cell.
+     * 1. Open:
+     *      Read and validate the header against the file length. The tiles are memory-mapped in chunks of up to 1 GB, each
+     *      holding a whole number of tiles, and a chunk is mapped the first time a cell inside it is accessed. The operating
+     *      system pages in just the tiles a search touches, and the number of mappings stays at file size / 1 GB instead of
+     *      one per tile, far below the per-process mapping limit.
+     * 2. Access:
+     *      isObstacle / getCost locate the chunk, the tile inside it and the cell offset inside the tile; set methods write
+     *      through the mapping.
+     * 3. A* Search:
+     *      Nodes are created only for cells the search reaches. Entering a cell costs that cell's cost and the heuristic is
+     *      the Manhattan distance (every cost is at least 1, so it never overestimates).
+     *********************************************************************************************************************************/
+
+    private static final int MAGIC = 0x47524944; // "GRID"
+    private static final int VERSION = 1;
+    private static final int HEADER_BYTES = 32;
+    // Largest single mapping; a tile never spans two chunks, so it also bounds the tile size
+    private static final long CHUNK_BYTES = 1L << 30;
+
+    // Diagonal movements are not considered, so using only four neighbours without including diagonal cells.
+    private static final int[][] DIRECTIONS = { { 0, 1 }, { 1, 0 }, { 0, -1 }, { -1, 0 } };
+
+    private FileChannel channel;
+    private int rows;
+    private int columns;
+    private int tileSize;
+    private int tileColumns;
+    private int obstacleBytes; // bytes of the obstacle bitset at the start of every tile
+    private int tileBytes;
+    private int tileCount;
+    private int tilesPerChunk;
+    private MappedByteBuffer[] chunks; // mapped lazily, null until a cell of the chunk is accessed
+    private boolean[] accessedTiles;
+    private int loadedTiles;
+
+    private MappedGridMap(FileChannel channel, int rows, int columns, int tileSize) {
+        this.channel = channel;
+        this.rows = rows;
+        this.columns = columns;
+        this.tileSize = tileSize;
+        this.tileColumns = (columns + tileSize - 1) / tileSize;
+
+        // The layout was validated by getFileSize, so a tile fits in a chunk and the tile count in an int
+        long cellsPerTile = (long) tileSize * tileSize;
+        this.obstacleBytes = (int) (((cellsPerTile + 63) / 64) * 8);
+        this.tileBytes = (int) (this.obstacleBytes + cellsPerTile);
+
+        int tileRows = (rows + tileSize - 1) / tileSize;
+        this.tileCount = tileRows * this.tileColumns;
+        this.tilesPerChunk = (int) Math.min(CHUNK_BYTES / this.tileBytes, this.tileCount);
+        this.chunks = new MappedByteBuffer[(this.tileCount + this.tilesPerChunk - 1) / this.tilesPerChunk];
+        this.accessedTiles = new boolean[this.tileCount];
+    }
+
+    // Total file size of a layout, or -1 if the dimensions are not positive or the layout cannot be mapped
+    private static long getFileSize(int rows, int columns, int tileSize) {
+        if (rows <= 0 || columns <= 0 || tileSize <= 0) {
+            return -1;
+        }
+
+        long cellsPerTile = (long) tileSize * tileSize;
+        long tileBytes = ((cellsPerTile + 63) / 64) * 8 + cellsPerTile;
+        long tileCount = ((rows + (long) tileSize - 1) / tileSize) * ((columns + (long) tileSize - 1) / tileSize);
+        if (tileBytes > CHUNK_BYTES || tileCount > Integer.MAX_VALUE) {
+            return -1;
+        }
+
+        return HEADER_BYTES + tileCount * tileBytes;
+    }
+
+    public static MappedGridMap create(Path path, int rows, int columns, int tileSize) throws IOException {
+        long size = getFileSize(rows, columns, tileSize);
+        if (size == -1) {
+            throw new IllegalArgumentException("Grid and tile dimensions must be positive and a tile must fit in 1 GB.");
+        }
+
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+                StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES);
+            header.putInt(MAGIC).putInt(VERSION).putInt(rows).putInt(columns).putInt(tileSize);
+            header.rewind();
+            channel.write(header, 0);
+
+            // Extend the file to its full size without writing the tiles; the unwritten bytes read as zero
+            channel.write(ByteBuffer.allocate(1), size - 1);
+        }
+
+        return open(path);
+    }
+
+    public static MappedGridMap open(Path path) throws IOException {
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE);
+
+        ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES);
+        channel.read(header, 0);
+        header.flip();
+        if (header.remaining() < HEADER_BYTES || header.getInt() != MAGIC || header.getInt() != VERSION) {
+            channel.close();
+            throw new IOException("File is not a grid map.");
+        }
+
+        // Never trust the header: a corrupt layout must not map past the end of the file or overflow the tile offsets
+        int rows = header.getInt();
+        int columns = header.getInt();
+        int tileSize = header.getInt();
+        long size = getFileSize(rows, columns, tileSize);
+        if (size == -1 || channel.size() < size) {
+            channel.close();
+            throw new IOException("Grid map header does not match the file.");
+        }
+
+        return new MappedGridMap(channel, rows, columns, tileSize);
+    }
+
+    public int getRows() {
+        return this.rows;
+    }
+
+    public int getColumns() {
+        return this.columns;
+    }
+
+    public int getLoadedTileCount() {
+        return this.loadedTiles;
+    }
+
+    public boolean isObstacle(int x, int y) {
+        checkBounds(x, y);
+
+        int tile = getTile(x, y);
+        int cell = getCellInTile(x, y);
+        return (getChunk(tile).get(getTileOffset(tile) + (cell >>> 3)) & (1 << (cell & 7))) != 0;
+    }
+
+    public void setObstacle(int x, int y) {
+        checkBounds(x, y);
+
+        int tile = getTile(x, y);
+        MappedByteBuffer chunk = getChunk(tile);
+        int index = getTileOffset(tile) + (getCellInTile(x, y) >>> 3);
+        chunk.put(index, (byte) (chunk.get(index) | (1 << (getCellInTile(x, y) & 7))));
+    }
+
+    public int getCost(int x, int y) {
+        checkBounds(x, y);
+
+        int tile = getTile(x, y);
+        return (getChunk(tile).get(getTileOffset(tile) + this.obstacleBytes + getCellInTile(x, y)) & 0xFF) + 1;
+    }
+
+    public void setCost(int x, int y, int cost) {
+        checkBounds(x, y);
+        if (cost < 1 || cost > 256) {
+            throw new IllegalArgumentException("Cell cost must be between 1 and 256.");
+        }
+
+        int tile = getTile(x, y);
+        getChunk(tile).put(getTileOffset(tile) + this.obstacleBytes + getCellInTile(x, y), (byte) (cost - 1));
+    }
+
+    public int[][] execute(int startX, int startY, int targetX, int targetY) {
+        if (isObstacle(startX, startY)) {
+            throw new IllegalArgumentException("Start cell is defined as an obstacle.");
+        }
+        if (isObstacle(targetX, targetY)) {
+            throw new IllegalArgumentException("Target cell is defined as an obstacle.");
+        }
+
+        // Only cells the search reaches get a node
+        Map<Long, Node> nodes = new HashMap<>();
+        Queue<QueueEntry> queue = new PriorityQueue<>();
+
+        Node start = new Node(startX, startY);
+        start.gCost = 0;
+        nodes.put(getKey(startX, startY), start);
+        queue.offer(new QueueEntry(start, getHCost(startX, startY, targetX, targetY)));
+
+        while (!queue.isEmpty()) {
+            Node current = queue.poll().node;
+            if (current.isClosed) {
+                continue; // stale queue entry
+            }
+
+            if (current.x == targetX && current.y == targetY) {
+                return getPath(current);
+            }
+            current.isClosed = true;
+
+            for (int[] direction : DIRECTIONS) {
+                int x = current.x + direction[0];
+                int y = current.y + direction[1];
+                if (x < 0 || y < 0 || x >= this.rows || y >= this.columns || isObstacle(x, y)) {
+                    continue;
+                }
+
+                Node neighbour = nodes.computeIfAbsent(getKey(x, y), key -> new Node(x, y));
+                int tentativeGCost = current.gCost + getCost(x, y);
+
+                // Update neighbour's cost if a lower gCost path is found
+                if (!neighbour.isClosed && tentativeGCost < neighbour.gCost) {
+                    neighbour.parent = current;
+                    neighbour.gCost = tentativeGCost;
+                    queue.offer(new QueueEntry(neighbour, tentativeGCost + getHCost(x, y, targetX, targetY)));
+                }
+            }
+        }
+
+        return new int[0][];
+    }
+
+    @Override
+    public void close() throws IOException {
+        // Mapped chunks stay valid until garbage collected; dropping the references lets that happen
+        Arrays.fill(this.chunks, null);
+        this.channel.close();
+    }
+
+    private int getTile(int x, int y) {
+        int tile = (x / this.tileSize) * this.tileColumns + (y / this.tileSize);
+
+        if (!this.accessedTiles[tile]) {
+            this.accessedTiles[tile] = true;
+            this.loadedTiles++;
+        }
+
+        return tile;
+    }
+
+    private MappedByteBuffer getChunk(int tile) {
+        int index = tile / this.tilesPerChunk;
+        MappedByteBuffer chunk = this.chunks[index];
+
+        if (chunk == null) {
+            long first = (long) index * this.tilesPerChunk;
+            long tiles = Math.min(this.tilesPerChunk, this.tileCount - first);
+            try {
+                chunk = this.channel.map(FileChannel.MapMode.READ_WRITE, HEADER_BYTES + first * this.tileBytes,
+                        tiles * this.tileBytes);
+            } catch (IOException e) {
+                throw new IllegalStateException("Unable to map grid chunk " + index + ".", e);
+            }
+
+            this.chunks[index] = chunk;
+        }
+
+        return chunk;
+    }
+
+    // Byte offset of the tile inside its chunk; a chunk is at most 1 GB, so it fits in an int
+    private int getTileOffset(int tile) {
+        return (tile % this.tilesPerChunk) * this.tileBytes;
+    }
+
+    // Index of the cell inside its tile; below tileSize², which is less than 1 GB
+    private int getCellInTile(int x, int y) {
+        return (x % this.tileSize) * this.tileSize + (y % this.tileSize);
+    }
+
+    private void checkBounds(int x, int y) {
+        if (x < 0 || y < 0 || x >= this.rows || y >= this.columns) {
+            throw new IllegalArgumentException("Cell position is out of bounds.");
+        }
+    }
+
+    private long getKey(int x, int y) {
+        return (long) x * this.columns + y;
+    }
+
+    // Manhattan distance, as diagonal movements are not considered and no move costs less than 1
+    private int getHCost(int x, int y, int targetX, int targetY) {
+        return Math.abs(targetX - x) + Math.abs(targetY - y);
+    }
+
+    private int[][] getPath(Node target) {
+        List<int[]> path = new ArrayList<>();
+
+        while (target != null) {
+            path.add(new int[] { target.x, target.y });
+            target = target.parent;
+        }
+
+        // Reverse path to get start to target order
+        Collections.reverse(path);
+        return path.toArray(new int[0][]);
+    }
+
+    static class Node {
+        int x;
+        int y;
+        int gCost;
+        Node parent;
+        boolean isClosed;
+
+        public Node(int x, int y) {
+            this.x = x;
+            this.y = y;
+            this.gCost = Integer.MAX_VALUE;
+        }
+    }
+
+    static class QueueEntry implements Comparable<QueueEntry> {
+        Node node;
+        int fCost;
+
+        public QueueEntry(Node node, int fCost) {
+            this.node = node;
+            this.fCost = fCost;
+        }
+
+        @Override
+        public int compareTo(QueueEntry entry) {
+            return Integer.compare(this.fCost, entry.fCost);
+        }
+    }
+
+    public static void main(String[] args) throws IOException {
+        Path file = Files.createTempFile("grid", ".map");
+
+        // 4096 x 4096 cells in 64 x 64 tiles; creating the file writes only the header
+        try (MappedGridMap map = MappedGridMap.create(file, 4096, 4096, 64)) {
+            map.setObstacle(1, 1);
+            map.setObstacle(1, 3);
+            map.setObstacle(2, 1);
+            map.setObstacle(3, 3);
+            map.setObstacle(4, 2);
+            map.setCost(0, 3, 5); // expensive cell on the otherwise shortest route
+        }
+
+        try (MappedGridMap map = MappedGridMap.open(file)) {
+            int[][] path = map.execute(0, 0, 4, 4);
+
+            System.out.println("Shortest Path:");
+            for (int[] cell : path) {
+                System.out.print("{" + cell[0] + "," + cell[1] + "}, ");
+            }
+            System.out.println("\nLoaded Tiles: " + map.getLoadedTileCount() + " of " + (64 * 64));
+        } finally {
+            Files.delete(file);
+        }
+
+        // Shortest Path:
+        // {0,0}, {0,1}, {0,2}, {1,2}, {2,2}, {2,3}, {2,4}, {3,4}, {4,4},
+        // Loaded Tiles: 1 of 4096
+    }
+}
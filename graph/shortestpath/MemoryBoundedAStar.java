@@ -0,0 +1,635 @@
+package graph.shortestpath;
+
+import java.util.*;
+
+public class MemoryBoundedAStar {
+
+    /*********************************************************************************************************************************
+     * IDA*     - Time Complexity: O(b^d) in the worst case, far less with the transposition table   Space Complexity: O(d + T + V / 64)
+     * SMA*     - Time Complexity: O(b^d) in the worst case                                         Space Complexity: O(M)
+     *            where b is the branching factor, d the solution depth, T the table capacity, M the node cap and V the cells.
+     *********************************************************************************************************************************
+     * The grid is stored as an obstacle bitset (one bit per cell), so a query allocates nothing per cell up front.
+     * 1. IDA* (Iterative Deepening A*):
+     *      Start with threshold = h(start).
+     *      Run a depth-first search that cuts off any cell whose f = g + h exceeds the threshold.
+     *      A bounded transposition table keeps the best g seen for a cell in the current iteration; a cell reached again with
+     *      an equal or larger g is pruned, which removes most of the duplicate paths of a grid. Cells on the current path
+     *      are marked in a bitset the size of the obstacle bitset, so the search never walks in a cycle, even for cells
+     *      the full table could not store.
+     *      If the target is not found, raise the threshold to the smallest f that was cut off and repeat.
+     *      A shortest path visits every free cell at most once, so once the threshold passes the number of free cells no
+     *      path exists. Without that bound, a table too small for the reachable area lets cycles produce cutoffs forever.
+     * 2. SMA* (Simplified Memory-Bounded A*):
+     *      Keep at most M search nodes. Expand the open node with the lowest f (deepest on ties) like A*.
+     *      When memory is full, forget the open leaf with the highest f (shallowest on ties) and back its f up into its
+     *      parent, so the parent knows the best cost hidden below it and is reopened to regenerate it later.
+     *      A node at depth M - 1 can never be part of a stored path and gets f = infinity.
+     *      Parents track the minimum f of their children, so the search always resumes from the most promising region.
+     *********************************************************************************************************************************/
+
+    // Diagonal movements are not considered, so using only four neighbours without including diagonal cells.
+    private static final int[][] DIRECTIONS = { { 0, 1 }, { 1, 0 }, { 0, -1 }, { -1, 0 } };
+    private static final int INFINITY = Integer.MAX_VALUE;
+
+    private int rows;
+    private int columns;
+    private long[] obstacles; // bit (x * columns + y) is set when the cell is an obstacle
+
+    public MemoryBoundedAStar(int rows, int columns) {
+        this.rows = rows;
+        this.columns = columns;
+        this.obstacles = new long[(int) (((long) rows * columns + 63) >>> 6)];
+    }
+
+    public void setObstacle(int x, int y) {
+        if (!isInBounds(x, y)) {
+            throw new IllegalArgumentException("Cell position is out of bounds.");
+        }
+
+        long cell = getCell(x, y);
+        this.obstacles[(int) (cell >>> 6)] |= 1L << cell;
+    }
+
+    public boolean isObstacle(int x, int y) {
+        long cell = getCell(x, y);
+        return (this.obstacles[(int) (cell >>> 6)] & (1L << cell)) != 0;
+    }
+
+    public int[][] executeIDAStar(int startX, int startY, int targetX, int targetY, int tableCapacity) {
+        validate(startX, startY, targetX, targetY);
+        if (tableCapacity <= 0 || tableCapacity > CellTable.MAX_CAPACITY) {
+            throw new IllegalArgumentException("Table capacity must be between 1 and " + CellTable.MAX_CAPACITY + ".");
+        }
+
+        long start = getCell(startX, startY);
+        long target = getCell(targetX, targetY);
+        if (start == target) {
+            return new int[][] { { startX, startY } };
+        }
+
+        CellTable table = new CellTable(tableCapacity);
+        int threshold = getHCost(start, target);
+        long maxPathCost = getFreeCellCount() - 1;
+
+        // Every move costs 1, so g equals the depth on the search stack
+        long[] stack = new long[threshold + 1];
+        byte[] nextDirection = new byte[threshold + 1];
+        long[] onPath = new long[this.obstacles.length];
+
+        while (true) {
+            int nextThreshold = INFINITY;
+            table.clear();
+
+            if (stack.length < threshold + 1) {
+                stack = Arrays.copyOf(stack, threshold + 1);
+                nextDirection = Arrays.copyOf(nextDirection, threshold + 1);
+            }
+
+            int depth = 0;
+            stack[0] = start;
+            nextDirection[0] = 0;
+            table.put(start, 0);
+            onPath[(int) (start >>> 6)] |= 1L << start;
+
+            while (depth >= 0) {
+                // All neighbours tried, backtrack
+                if (nextDirection[depth] == DIRECTIONS.length) {
+                    onPath[(int) (stack[depth] >>> 6)] &= ~(1L << stack[depth]);
+                    depth--;
+                    continue;
+                }
+
+                long current = stack[depth];
+                int[] direction = DIRECTIONS[nextDirection[depth]++];
+                int x = getX(current) + direction[0];
+                int y = getY(current) + direction[1];
+                if (!isInBounds(x, y) || isObstacle(x, y)) {
+                    continue;
+                }
+
+                long neighbour = getCell(x, y);
+                if ((onPath[(int) (neighbour >>> 6)] & (1L << neighbour)) != 0) {
+                    continue; // would close a cycle with the current path
+                }
+
+                int gCost = depth + 1;
+                int fCost = gCost + getHCost(neighbour, target);
+
+                // Cut off and remember the smallest f beyond the threshold for the next iteration
+                if (fCost > threshold) {
+                    nextThreshold = Math.min(nextThreshold, fCost);
+                    continue;
+                }
+
+                if (neighbour == target) {
+                    int[][] path = new int[depth + 2][];
+                    for (int i = 0; i <= depth; i++) {
+                        path[i] = new int[] { getX(stack[i]), getY(stack[i]) };
+                    }
+                    path[depth + 1] = new int[] { x, y };
+                    return path;
+                }
+
+                // Already explored with an equal or cheaper g in this iteration
+                if (table.get(neighbour) <= gCost) {
+                    continue;
+                }
+                table.put(neighbour, gCost);
+
+                depth++;
+                stack[depth] = neighbour;
+                nextDirection[depth] = 0;
+                onPath[(int) (neighbour >>> 6)] |= 1L << neighbour;
+            }
+
+            // Nothing was cut off, so every reachable cell was explored without finding the target; or the next
+            // threshold is longer than any path that visits each free cell once
+            if (nextThreshold == INFINITY || nextThreshold > maxPathCost) {
+                return new int[0][];
+            }
+
+            threshold = nextThreshold;
+        }
+    }
+
+    public int[][] executeSMAStar(int startX, int startY, int targetX, int targetY, int maxNodes) {
+        validate(startX, startY, targetX, targetY);
+        if (maxNodes < 2 || maxNodes > CellTable.MAX_CAPACITY) {
+            throw new IllegalArgumentException("Node cap must be between 2 and " + CellTable.MAX_CAPACITY + ".");
+        }
+
+        return new SMAStarSearch(getCell(startX, startY), getCell(targetX, targetY), maxNodes).execute();
+    }
+
+    private void validate(int startX, int startY, int targetX, int targetY) {
+        if (!isInBounds(startX, startY) || !isInBounds(targetX, targetY)) {
+            throw new IllegalArgumentException("Cell position is out of bounds.");
+        }
+        if (isObstacle(startX, startY)) {
+            throw new IllegalArgumentException("Start cell is defined as an obstacle.");
+        }
+        if (isObstacle(targetX, targetY)) {
+            throw new IllegalArgumentException("Target cell is defined as an obstacle.");
+        }
+    }
+
+    private long getFreeCellCount() {
+        long free = (long) this.rows * this.columns;
+        for (long word : this.obstacles) {
+            free -= Long.bitCount(word);
+        }
+
+        return free;
+    }
+
+    private boolean isInBounds(int x, int y) {
+        return x >= 0 && y >= 0 && x < this.rows && y < this.columns;
+    }
+
+    private long getCell(int x, int y) {
+        return (long) x * this.columns + y;
+    }
+
+    private int getX(long cell) {
+        return (int) (cell / this.columns);
+    }
+
+    private int getY(long cell) {
+        return (int) (cell % this.columns);
+    }
+
+    // Manhattan distance, as diagonal movements are not considered
+    private int getHCost(long start, long end) {
+        return Math.abs(getX(end) - getX(start)) + Math.abs(getY(end) - getY(start));
+    }
+
+    private class SMAStarSearch {
+        static final int NOT_FORGOTTEN = -1;
+
+        long start;
+        long target;
+        int maxNodes;
+
+        // Node pool; a node is identified by its slot index
+        long[] cell;
+        int[] gCost;
+        int[] fCost;
+        int[] parent;
+        int[] childCount;
+        int[] forgottenFCost; // [node * 4 + direction] backed up f of a successor dropped from memory, NOT_FORGOTTEN if none
+        boolean[] expanded;
+        int[] freeSlots;
+        int freeCount;
+
+        CellTable index; // cell -> slot of the node currently in memory
+        TreeSet<Integer> open;
+
+        SMAStarSearch(long start, long target, int maxNodes) {
+            this.start = start;
+            this.target = target;
+            this.maxNodes = maxNodes;
+
+            this.cell = new long[maxNodes];
+            this.gCost = new int[maxNodes];
+            this.fCost = new int[maxNodes];
+            this.parent = new int[maxNodes];
+            this.childCount = new int[maxNodes];
+            this.forgottenFCost = new int[maxNodes * DIRECTIONS.length];
+            this.expanded = new boolean[maxNodes];
+            this.freeSlots = new int[maxNodes];
+            for (int i = 0; i < maxNodes; i++) {
+                this.freeSlots[i] = maxNodes - 1 - i;
+            }
+            this.freeCount = maxNodes;
+
+            this.index = new CellTable(maxNodes);
+
+            // Lowest f first, deepest first on ties; the last element is the highest f, shallowest node
+            this.open = new TreeSet<>((a, b) -> {
+                if (this.fCost[a] != this.fCost[b]) {
+                    return Integer.compare(this.fCost[a], this.fCost[b]);
+                }
+                if (this.gCost[a] != this.gCost[b]) {
+                    return Integer.compare(this.gCost[b], this.gCost[a]);
+                }
+                return Integer.compare(a, b);
+            });
+        }
+
+        int[][] execute() {
+            int root = allocate(this.start, 0, getHCost(this.start, this.target), -1);
+            this.open.add(root);
+
+            while (!this.open.isEmpty()) {
+                int best = this.open.first();
+                if (this.fCost[best] == INFINITY) {
+                    break; // no solution fits into the node cap
+                }
+
+                if (this.cell[best] == this.target) {
+                    return getPath(best);
+                }
+
+                expand(best);
+            }
+
+            return new int[0][];
+        }
+
+        // Generates every successor that is not in memory; forgotten successors come back with their backed up f.
+        void expand(int node) {
+            this.open.remove(node);
+            this.expanded[node] = true;
+
+            int x = getX(this.cell[node]);
+            int y = getY(this.cell[node]);
+            int successorGCost = this.gCost[node] + 1;
+
+            for (int i = 0; i < DIRECTIONS.length; i++) {
+                int neighbourX = x + DIRECTIONS[i][0];
+                int neighbourY = y + DIRECTIONS[i][1];
+                if (!isInBounds(neighbourX, neighbourY) || isObstacle(neighbourX, neighbourY) || getChild(node, i) != -1) {
+                    continue;
+                }
+
+                long neighbour = getCell(neighbourX, neighbourY);
+                int successorFCost = getSuccessorFCost(node, neighbour, successorGCost, this.forgottenFCost[node * 4 + i]);
+                this.forgottenFCost[node * 4 + i] = NOT_FORGOTTEN;
+
+                int existing = this.index.get(neighbour);
+                if (existing != INFINITY) {
+                    if (this.gCost[existing] <= successorGCost) {
+                        continue; // already in memory with an equal or cheaper path
+                    }
+
+                    // Found a cheaper path to a node in memory: drop its subtree and hang it under this node. The child is
+                    // counted first so that detaching it can never make this node look like a dead end.
+                    this.childCount[node]++;
+                    discardChildren(existing);
+                    detach(existing);
+                    this.gCost[existing] = successorGCost;
+                    this.fCost[existing] = successorFCost;
+                    this.parent[existing] = node;
+                    this.expanded[existing] = false;
+                    Arrays.fill(this.forgottenFCost, existing * 4, existing * 4 + 4, NOT_FORGOTTEN);
+                    this.open.add(existing);
+                    continue;
+                }
+
+                if (this.freeCount == 0 && !forgetWorstLeaf(node, successorFCost, successorGCost)) {
+                    // Every leaf is more promising, so keep the successor forgotten until this node is reopened
+                    this.forgottenFCost[node * 4 + i] = successorFCost;
+                    continue;
+                }
+
+                int successor = allocate(neighbour, successorGCost, successorFCost, node);
+                this.childCount[node]++;
+                this.open.add(successor);
+            }
+
+            // Reopen a node with forgotten successors. A node with nothing below it stays open as a leaf whose backed up
+            // f is infinity, so it is the first to be forgotten.
+            if (hasForgottenSuccessor(node) || this.childCount[node] == 0) {
+                this.open.add(node);
+            }
+            backup(node);
+        }
+
+        int getSuccessorFCost(int node, long successor, int successorGCost, int forgotten) {
+            // A node that deep could never be stored along with its whole path
+            if (successor != this.target && successorGCost >= this.maxNodes - 1) {
+                return INFINITY;
+            }
+
+            // f never decreases along a path (pathmax) and never drops below what was learnt before it was forgotten
+            int fCost = Math.max(this.fCost[node], successorGCost + getHCost(successor, this.target));
+            return forgotten == NOT_FORGOTTEN ? fCost : Math.max(fCost, forgotten);
+        }
+
+        // Forgets the worst open leaf, but only if it ranks below a successor with the given costs.
+        boolean forgetWorstLeaf(int expanding, int successorFCost, int successorGCost) {
+            Iterator<Integer> iterator = this.open.descendingIterator();
+            while (iterator.hasNext()) {
+                int candidate = iterator.next();
+                if (candidate == expanding || this.childCount[candidate] != 0 || this.parent[candidate] == -1) {
+                    continue;
+                }
+
+                // Leaves are visited from worst to best, so no later leaf is worse than the successor either
+                if (this.fCost[candidate] < successorFCost
+                        || (this.fCost[candidate] == successorFCost && this.gCost[candidate] >= successorGCost)) {
+                    return false;
+                }
+
+                // Remember the forgotten cost in the parent and reopen the parent so it can regenerate the leaf
+                int parentNode = this.parent[candidate];
+                iterator.remove();
+                this.forgottenFCost[parentNode * 4 + getDirection(parentNode, candidate)] = this.fCost[candidate];
+                release(candidate);
+                this.childCount[parentNode]--;
+                this.open.add(parentNode);
+                backup(parentNode);
+                return true;
+            }
+
+            return false;
+        }
+
+        // Recompute f of a node from its children in memory and its forgotten successors, then continue with its ancestors.
+        void backup(int node) {
+            while (node != -1 && this.expanded[node]) {
+                int best = INFINITY;
+                for (int i = 0; i < DIRECTIONS.length; i++) {
+                    int child = getChild(node, i);
+                    if (child != -1) {
+                        best = Math.min(best, this.fCost[child]);
+                    } else if (this.forgottenFCost[node * 4 + i] != NOT_FORGOTTEN) {
+                        best = Math.min(best, this.forgottenFCost[node * 4 + i]);
+                    }
+                }
+
+                if (best == this.fCost[node]) {
+                    return;
+                }
+
+                setFCost(node, best);
+                node = this.parent[node];
+            }
+        }
+
+        void discardChildren(int node) {
+            int[] stack = new int[this.maxNodes];
+            int size = 0;
+            stack[size++] = node;
+
+            while (size > 0) {
+                int current = stack[--size];
+                for (int i = 0; i < DIRECTIONS.length; i++) {
+                    int child = getChild(current, i);
+                    if (child != -1) {
+                        stack[size++] = child;
+                    }
+                }
+
+                if (current != node) {
+                    this.open.remove(current);
+                    release(current);
+                }
+            }
+
+            this.childCount[node] = 0;
+        }
+
+        void detach(int node) {
+            this.open.remove(node);
+            int parentNode = this.parent[node];
+            this.parent[node] = -1;
+            this.childCount[parentNode]--;
+
+            // The old parent may be left with nothing below it
+            if (this.childCount[parentNode] == 0) {
+                this.open.add(parentNode);
+            }
+            backup(parentNode);
+        }
+
+        boolean hasForgottenSuccessor(int node) {
+            for (int i = 0; i < DIRECTIONS.length; i++) {
+                if (this.forgottenFCost[node * 4 + i] != NOT_FORGOTTEN) {
+                    return true;
+                }
+            }
+
+            return false;
+        }
+
+        // The node in memory one step from 'node' in the given direction if it is a child of 'node', otherwise -1.
+        int getChild(int node, int direction) {
+            int x = getX(this.cell[node]) + DIRECTIONS[direction][0];
+            int y = getY(this.cell[node]) + DIRECTIONS[direction][1];
+            if (!isInBounds(x, y)) {
+                return -1;
+            }
+
+            int child = this.index.get(getCell(x, y));
+            return child != INFINITY && this.parent[child] == node ? child : -1;
+        }
+
+        int getDirection(int node, int child) {
+            int dx = getX(this.cell[child]) - getX(this.cell[node]);
+            int dy = getY(this.cell[child]) - getY(this.cell[node]);
+            for (int i = 0; i < DIRECTIONS.length; i++) {
+                if (DIRECTIONS[i][0] == dx && DIRECTIONS[i][1] == dy) {
+                    return i;
+                }
+            }
+
+            throw new IllegalStateException("Nodes are not neighbours.");
+        }
+
+        void setFCost(int node, int value) {
+            boolean isOpen = this.open.remove(node);
+            this.fCost[node] = value;
+            if (isOpen) {
+                this.open.add(node);
+            }
+        }
+
+        int allocate(long cell, int gCost, int fCost, int parent) {
+            int node = this.freeSlots[--this.freeCount];
+            this.cell[node] = cell;
+            this.gCost[node] = gCost;
+            this.fCost[node] = fCost;
+            this.parent[node] = parent;
+            this.childCount[node] = 0;
+            this.expanded[node] = false;
+            Arrays.fill(this.forgottenFCost, node * 4, node * 4 + 4, NOT_FORGOTTEN);
+            this.index.put(cell, node);
+            return node;
+        }
+
+        void release(int node) {
+            this.index.remove(this.cell[node]);
+            this.freeSlots[this.freeCount++] = node;
+        }
+
+        int[][] getPath(int node) {
+            int[][] path = new int[this.gCost[node] + 1][];
+            while (node != -1) {
+                path[this.gCost[node]] = new int[] { getX(this.cell[node]), getY(this.cell[node]) };
+                node = this.parent[node];
+            }
+
+            return path;
+        }
+    }
+
+    // Open addressing table from cell to int with a fixed capacity. Once it holds 'capacity' cells, new cells are not
+    // inserted (existing ones are still updated), which bounds the memory of the IDA* transposition table.
+    static class CellTable {
+        // Largest capacity whose slot count (the next power of two of twice the capacity) still fits an int
+        static final int MAX_CAPACITY = 1 << 29;
+        private static final long EMPTY = 0;
+
+        long[] keys; // cell + 1, so that 0 marks an empty slot
+        int[] values;
+        int mask;
+        int capacity;
+        int size;
+
+        public CellTable(int capacity) {
+            if (capacity <= 0 || capacity > MAX_CAPACITY) {
+                throw new IllegalArgumentException("Table capacity must be between 1 and " + MAX_CAPACITY + ".");
+            }
+
+            int slots = Integer.highestOneBit(Math.max(2, capacity) * 2 - 1) << 1;
+            this.keys = new long[slots];
+            this.values = new int[slots];
+            this.mask = slots - 1;
+            this.capacity = capacity;
+        }
+
+        public int get(long cell) {
+            long key = cell + 1;
+            for (int slot = getSlot(key); this.keys[slot] != EMPTY; slot = (slot + 1) & this.mask) {
+                if (this.keys[slot] == key) {
+                    return this.values[slot];
+                }
+            }
+
+            return INFINITY;
+        }
+
+        public boolean put(long cell, int value) {
+            long key = cell + 1;
+            int slot = getSlot(key);
+            while (this.keys[slot] != EMPTY) {
+                if (this.keys[slot] == key) {
+                    this.values[slot] = value;
+                    return true;
+                }
+                slot = (slot + 1) & this.mask;
+            }
+
+            if (this.size == this.capacity) {
+                return false;
+            }
+
+            this.keys[slot] = key;
+            this.values[slot] = value;
+            this.size++;
+            return true;
+        }
+
+        public void remove(long cell) {
+            long key = cell + 1;
+            int slot = getSlot(key);
+            while (this.keys[slot] != key) {
+                if (this.keys[slot] == EMPTY) {
+                    return;
+                }
+                slot = (slot + 1) & this.mask;
+            }
+
+            // Shift later entries of the probe run back so no lookup stops early at the freed slot
+            int next = slot;
+            while (true) {
+                next = (next + 1) & this.mask;
+                if (this.keys[next] == EMPTY) {
+                    break;
+                }
+
+                int home = getSlot(this.keys[next]);
+                boolean between = slot <= next ? (slot < home && home <= next) : (slot < home || home <= next);
+                if (!between) {
+                    this.keys[slot] = this.keys[next];
+                    this.values[slot] = this.values[next];
+                    slot = next;
+                }
+            }
+
+            this.keys[slot] = EMPTY;
+            this.size--;
+        }
+
+        public void clear() {
+            Arrays.fill(this.keys, EMPTY);
+            this.size = 0;
+        }
+
+        private int getSlot(long key) {
+            long hash = key * 0x9E3779B97F4A7C15L;
+            return (int) (hash ^ (hash >>> 32)) & this.mask;
+        }
+    }
+
+    private static String toString(int[][] path) {
+        StringBuilder builder = new StringBuilder();
+        for (int[] cell : path) {
+            builder.append("{").append(cell[0]).append(",").append(cell[1]).append("}, ");
+        }
+
+        return builder.toString();
+    }
+
+    public static void main(String[] args) {
+        MemoryBoundedAStar graph = new MemoryBoundedAStar(5, 5);
+        graph.setObstacle(1, 1);
+        graph.setObstacle(1, 3);
+        graph.setObstacle(2, 1);
+        graph.setObstacle(3, 3);
+        graph.setObstacle(4, 2);
+
+        System.out.println("IDA* Shortest Path:");
+        System.out.println(toString(graph.executeIDAStar(0, 0, 4, 4, 16)));
+
+        System.out.println("SMA* Shortest Path (12 nodes):");
+        System.out.println(toString(graph.executeSMAStar(0, 0, 4, 4, 12)));
+
+        // IDA* Shortest Path:
+        // {0,0}, {0,1}, {0,2}, {0,3}, {0,4}, {1,4}, {2,4}, {3,4}, {4,4},
+        // SMA* Shortest Path (12 nodes):
+        // {0,0}, {0,1}, {0,2}, {0,3}, {0,4}, {1,4}, {2,4}, {3,4}, {4,4},
+    }
+}